@@ -2,6 +2,7 @@ package com.gamecraft.studios.config;
 
 import com.gamecraft.studios.entity.User;
 import com.gamecraft.studios.repository.UserRepository;
+import com.gamecraft.studios.security.CurrentUserCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -21,6 +22,9 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CurrentUserCache currentUserCache;
+
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws IOException {
@@ -71,6 +75,9 @@ public class OAuth2SuccessHandler extends SimpleUrlAuthenticationSuccessHandler
 
             userRepository.save(user);
 
+            // 로그인 시 최신 DB 값으로 다시 읽도록 캐시 무효화
+            currentUserCache.invalidate(user.getKakaoId());
+
             // 프론트엔드로 리다이렉트 (성공)
             String redirectUrl = "http://localhost:3000/auth/callback?success=true";
             getRedirectStrategy().sendRedirect(request, response, redirectUrl);
@@ -0,0 +1,91 @@
+package com.gamecraft.studios.config;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.core5.pool.PoolStats;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 외부 HTTP 호출 지표
+ * - 호스트별 호출 수 / 실패 수 / 평균·최대 지연시간 (RestTemplate 인터셉터로 수집)
+ * - 커넥션 풀 점유 현황 (leased / available / pending / max)
+ */
+public class OutboundHttpMetrics implements ClientHttpRequestInterceptor {
+
+    private final PoolingHttpClientConnectionManager connectionManager;
+    private final ConcurrentMap<String, HostStats> hostStats = new ConcurrentHashMap<>();
+
+    public OutboundHttpMetrics(PoolingHttpClientConnectionManager connectionManager) {
+        this.connectionManager = connectionManager;
+    }
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body,
+                                        ClientHttpRequestExecution execution) throws IOException {
+        HostStats stats = hostStats.computeIfAbsent(request.getURI().getHost(), host -> new HostStats());
+        long start = System.nanoTime();
+        boolean failed = true;
+
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            failed = response.getStatusCode().isError();
+            return response;
+        } finally {
+            stats.record(System.nanoTime() - start, failed);
+        }
+    }
+
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new HashMap<>();
+
+        PoolStats pool = connectionManager.getTotalStats();
+        snapshot.put("pool", Map.of(
+                "leased", pool.getLeased(),
+                "available", pool.getAvailable(),
+                "pending", pool.getPending(),
+                "max", pool.getMax()
+        ));
+
+        Map<String, Object> hosts = new HashMap<>();
+        hostStats.forEach((host, stats) -> hosts.put(host, stats.toMap()));
+        snapshot.put("hosts", hosts);
+
+        return snapshot;
+    }
+
+    private static class HostStats {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final AtomicLong maxNanos = new AtomicLong();
+
+        void record(long elapsedNanos, boolean failed) {
+            calls.increment();
+            if (failed) {
+                failures.increment();
+            }
+            totalNanos.add(elapsedNanos);
+            maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        }
+
+        Map<String, Object> toMap() {
+            long count = calls.sum();
+            return Map.of(
+                    "calls", count,
+                    "failures", failures.sum(),
+                    "avgLatencyMs", count > 0 ? totalNanos.sum() / count / 1_000_000 : 0,
+                    "maxLatencyMs", maxNanos.get() / 1_000_000
+            );
+        }
+    }
+}
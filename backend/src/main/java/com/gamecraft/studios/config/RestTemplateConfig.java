@@ -1,19 +1,78 @@
 package com.gamecraft.studios.config;
 
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+
 @Configuration
 public class RestTemplateConfig {
 
+    /**
+     * 외부 호출 공용 커넥션 풀 (keep-alive로 TLS 핸드셰이크 재사용)
+     */
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager outboundConnectionManager(
+            @Value("${http.client.max-total:50}") int maxTotal,
+            @Value("${http.client.max-per-route:10}") int maxPerRoute,
+            @Value("${http.client.github-max-per-route:16}") int githubMaxPerRoute,
+            @Value("${github.api.base-url:https://api.github.com}") String githubBaseUrl) {
+
+        PoolingHttpClientConnectionManager connectionManager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofSeconds(5))   // 5초
+                        .setSocketTimeout(Timeout.ofSeconds(10))   // 10초
+                        .setTimeToLive(TimeValue.ofMinutes(5))
+                        .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                        .build())
+                .build();
+
+        // GitHub 검색은 병렬로 나가므로 호스트 한도를 fan-out 스레드 수에 맞춤
+        URI githubUri = URI.create(githubBaseUrl);
+        boolean secure = "https".equals(githubUri.getScheme());
+        int port = githubUri.getPort() != -1 ? githubUri.getPort() : (secure ? 443 : 80);
+        HttpHost githubHost = new HttpHost(githubUri.getScheme(), githubUri.getHost(), port);
+        connectionManager.setMaxPerRoute(new HttpRoute(githubHost, null, secure), githubMaxPerRoute);
+
+        return connectionManager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient outboundHttpClient(PoolingHttpClientConnectionManager outboundConnectionManager) {
+        // gzip/deflate 응답 압축 해제는 HttpClient 기본 동작
+        return HttpClients.custom()
+                .setConnectionManager(outboundConnectionManager)
+                .evictExpiredConnections()
+                .evictIdleConnections(TimeValue.ofSeconds(30))
+                .build();
+    }
+
+    @Bean
+    public OutboundHttpMetrics outboundHttpMetrics(PoolingHttpClientConnectionManager outboundConnectionManager) {
+        return new OutboundHttpMetrics(outboundConnectionManager);
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
-        factory.setConnectTimeout(5000); // 5초
-        factory.setReadTimeout(10000);   // 10초
+    public RestTemplate restTemplate(CloseableHttpClient outboundHttpClient, OutboundHttpMetrics outboundHttpMetrics) {
+        HttpComponentsClientHttpRequestFactory factory = new HttpComponentsClientHttpRequestFactory(outboundHttpClient);
+        factory.setConnectionRequestTimeout(2000); // 풀에서 커넥션 대기 최대 2초
 
-        return new RestTemplate(factory);
+        RestTemplate restTemplate = new RestTemplate(factory);
+        restTemplate.getInterceptors().add(outboundHttpMetrics);
+        return restTemplate;
     }
-}
\ No newline at end of file
+}
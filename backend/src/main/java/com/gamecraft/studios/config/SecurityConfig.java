@@ -35,7 +35,10 @@ public class SecurityConfig {
                     corsConfig.setMaxAge(3600L);
                     corsConfig.setExposedHeaders(java.util.List.of(
                             "Access-Control-Allow-Origin",
-                            "Access-Control-Allow-Credentials"
+                            "Access-Control-Allow-Credentials",
+                            "Content-Disposition",
+                            "Content-Range",
+                            "Accept-Ranges"
                     ));
                     return corsConfig;
                 }))
@@ -0,0 +1,14 @@
+package com.gamecraft.studios.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Hibernate가 준비하는 모든 SQL(JPQL/네이티브/지연 로딩)을 기록 - SQL은 바꾸지 않음
+// 등록: spring.jpa.properties.hibernate.session_factory.statement_inspector
+public class SqlStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStatementRecorder.onStatement(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,152 @@
+package com.gamecraft.studios.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 요청별 SQL 지표 (엔드포인트 단위 누적)
+ * - 요청당 SQL 수 / JDBC 시간 / 정규화된 SQL별 실행 횟수
+ * - 한 요청에서 같은 모양의 SQL이 기준 횟수 이상 반복되면 N+1 의심으로 기록하고 경고 로그 (SQL별 1회)
+ */
+@Component
+public class SqlStatementMetrics {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatementMetrics.class);
+
+    // 엔드포인트별로 추적하는 SQL 모양 수 상한 (메모리 제한)
+    private static final int MAX_FINGERPRINTS_PER_ENDPOINT = 100;
+
+    private final int nPlusOneThreshold;
+    private final int requestBudget;
+    private final ConcurrentMap<String, EndpointStats> endpointStats = new ConcurrentHashMap<>();
+
+    public SqlStatementMetrics(@Value("${sql.metrics.n-plus-one-threshold:10}") int nPlusOneThreshold,
+                               @Value("${sql.metrics.request-budget:30}") int requestBudget) {
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.requestBudget = requestBudget;
+    }
+
+    public void record(String endpoint, SqlStatementRecorder.Recording recording) {
+        if (recording.getStatementCount() == 0) {
+            return;
+        }
+
+        EndpointStats stats = endpointStats.computeIfAbsent(endpoint, e -> new EndpointStats());
+        stats.record(recording);
+
+        Map<String, Integer> repeated = recording.getRepeatedFingerprints(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            stats.nPlusOneRequests.increment();
+            repeated.forEach((fingerprint, count) -> {
+                FingerprintStats fingerprintStats = stats.fingerprints.get(fingerprint);
+                if (fingerprintStats != null && fingerprintStats.warned.compareAndSet(false, true)) {
+                    logger.warn("N+1 의심: {} 요청 한 번에 같은 SQL {}회 - {}", endpoint, count, fingerprint);
+                }
+            });
+        }
+
+        if (recording.getStatementCount() > requestBudget && stats.overBudgetWarned.compareAndSet(false, true)) {
+            logger.warn("SQL 예산 초과: {} 요청 한 번에 SQL {}회 (예산 {}회)",
+                    endpoint, recording.getStatementCount(), requestBudget);
+        }
+    }
+
+    /**
+     * 요청당 평균 SQL 수가 많은 순으로 상위 엔드포인트
+     */
+    public Map<String, Object> snapshot(int limit) {
+        List<Map<String, Object>> endpoints = endpointStats.entrySet().stream()
+                .sorted(Comparator.comparingDouble(
+                        (Map.Entry<String, EndpointStats> entry) -> entry.getValue().averageStatements()).reversed())
+                .limit(limit)
+                .map(entry -> entry.getValue().toMap(entry.getKey()))
+                .toList();
+
+        Map<String, Object> snapshot = new HashMap<>();
+        snapshot.put("endpoints", endpoints);
+        snapshot.put("nPlusOneThreshold", nPlusOneThreshold);
+        snapshot.put("requestBudget", requestBudget);
+        return snapshot;
+    }
+
+    public void reset() {
+        endpointStats.clear();
+    }
+
+    private static class EndpointStats {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder statements = new LongAdder();
+        private final AtomicLong maxStatements = new AtomicLong();
+        private final LongAdder jdbcNanos = new LongAdder();
+        private final AtomicLong maxJdbcNanos = new AtomicLong();
+        private final LongAdder nPlusOneRequests = new LongAdder();
+        private final AtomicBoolean overBudgetWarned = new AtomicBoolean();
+        private final ConcurrentMap<String, FingerprintStats> fingerprints = new ConcurrentHashMap<>();
+
+        void record(SqlStatementRecorder.Recording recording) {
+            requests.increment();
+            statements.add(recording.getStatementCount());
+            maxStatements.accumulateAndGet(recording.getStatementCount(), Math::max);
+            jdbcNanos.add(recording.getJdbcNanos());
+            maxJdbcNanos.accumulateAndGet(recording.getJdbcNanos(), Math::max);
+
+            recording.getFingerprints().forEach((fingerprint, count) -> {
+                FingerprintStats stats = fingerprints.get(fingerprint);
+                if (stats == null) {
+                    if (fingerprints.size() >= MAX_FINGERPRINTS_PER_ENDPOINT) {
+                        return;
+                    }
+                    stats = fingerprints.computeIfAbsent(fingerprint, f -> new FingerprintStats());
+                }
+                stats.executions.add(count);
+                stats.maxPerRequest.accumulateAndGet(count, Math::max);
+            });
+        }
+
+        double averageStatements() {
+            long count = requests.sum();
+            return count > 0 ? (double) statements.sum() / count : 0;
+        }
+
+        Map<String, Object> toMap(String endpoint) {
+            long count = requests.sum();
+
+            // 요청 한 번에 가장 많이 반복된 SQL 순
+            List<Map<String, Object>> topStatements = fingerprints.entrySet().stream()
+                    .sorted(Comparator.comparingLong(
+                            (Map.Entry<String, FingerprintStats> entry) -> entry.getValue().maxPerRequest.get()).reversed())
+                    .limit(5)
+                    .map(entry -> Map.<String, Object>of(
+                            "sql", entry.getKey(),
+                            "executions", entry.getValue().executions.sum(),
+                            "maxPerRequest", entry.getValue().maxPerRequest.get()))
+                    .toList();
+
+            Map<String, Object> map = new HashMap<>();
+            map.put("endpoint", endpoint);
+            map.put("requests", count);
+            map.put("avgStatements", Math.round(averageStatements() * 10) / 10.0);
+            map.put("maxStatements", maxStatements.get());
+            map.put("avgJdbcMs", count > 0 ? jdbcNanos.sum() / count / 1_000_000.0 : 0);
+            map.put("maxJdbcMs", maxJdbcNanos.get() / 1_000_000.0);
+            map.put("nPlusOneRequests", nPlusOneRequests.sum());
+            map.put("topStatements", topStatements);
+            return map;
+        }
+    }
+
+    private static class FingerprintStats {
+        private final LongAdder executions = new LongAdder();
+        private final AtomicLong maxPerRequest = new AtomicLong();
+        private final AtomicBoolean warned = new AtomicBoolean();
+    }
+}
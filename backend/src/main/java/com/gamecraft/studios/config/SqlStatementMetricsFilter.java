@@ -0,0 +1,49 @@
+package com.gamecraft.studios.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * HTTP 요청 하나 동안 실행된 SQL을 기록해서 엔드포인트별 지표에 반영
+ * - 보안 필터보다 먼저 실행 → 인증 과정의 SQL도 포함
+ * - 비동기 응답(SSE, 스트리밍 내보내기)의 다른 스레드에서 실행된 SQL은 포함되지 않음
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "sql.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+    private final SqlStatementMetrics sqlStatementMetrics;
+
+    public SqlStatementMetricsFilter(SqlStatementMetrics sqlStatementMetrics) {
+        this.sqlStatementMetrics = sqlStatementMetrics;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        try (SqlStatementRecorder.Recording recording = SqlStatementRecorder.begin()) {
+            try {
+                filterChain.doFilter(request, response);
+            } finally {
+                sqlStatementMetrics.record(endpointOf(request), recording);
+            }
+        }
+    }
+
+    // 경로 변수가 들어간 URL은 매핑 패턴으로 묶음 (/admin/applications/{applicationId})
+    private String endpointOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "(unmapped)");
+    }
+}
@@ -0,0 +1,116 @@
+package com.gamecraft.studios.config;
+
+import java.util.*;
+import java.util.regex.Pattern;
+
+/**
+ * 현재 스레드에서 실행된 SQL 기록 (요청 단위 / 테스트 구간 단위)
+ * - Hibernate가 만드는 StatementInspector / SessionEventListener 에서 호출하므로 스프링 빈이 아닌 정적 진입점
+ * - 기록 구간이 열려 있지 않은 스레드(스케줄러, 비동기 응답 등)에서는 아무것도 하지 않음
+ */
+public final class SqlStatementRecorder {
+
+    // 같은 스레드에서 구간이 겹칠 수 있음 (필터 안에서 테스트 예산 측정 등) → 열린 구간 모두에 기록
+    private static final ThreadLocal<Deque<Recording>> ACTIVE = new ThreadLocal<>();
+
+    private static final int MAX_FINGERPRINT_LENGTH = 500;
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private SqlStatementRecorder() {}
+
+    /**
+     * 기록 시작 - 반드시 close() (try-with-resources)
+     */
+    public static Recording begin() {
+        Deque<Recording> recordings = ACTIVE.get();
+        if (recordings == null) {
+            recordings = new ArrayDeque<>();
+            ACTIVE.set(recordings);
+        }
+        Recording recording = new Recording();
+        recordings.push(recording);
+        return recording;
+    }
+
+    static void onStatement(String sql) {
+        Deque<Recording> recordings = ACTIVE.get();
+        if (recordings == null) {
+            return;
+        }
+        String fingerprint = fingerprint(sql);
+        for (Recording recording : recordings) {
+            recording.statementCount++;
+            recording.fingerprints.merge(fingerprint, 1, Integer::sum);
+        }
+    }
+
+    static void onJdbcTime(long nanos) {
+        Deque<Recording> recordings = ACTIVE.get();
+        if (recordings == null) {
+            return;
+        }
+        for (Recording recording : recordings) {
+            recording.jdbcNanos += nanos;
+        }
+    }
+
+    /**
+     * SQL 정규화 - 리터럴/IN 목록 길이/공백 차이를 없애서 같은 모양의 쿼리를 하나로 묶음
+     */
+    public static String fingerprint(String sql) {
+        String normalized = STRING_LITERAL.matcher(sql).replaceAll("?");
+        normalized = NUMBER_LITERAL.matcher(normalized).replaceAll("?");
+        normalized = IN_LIST.matcher(normalized).replaceAll("(?...)");
+        normalized = WHITESPACE.matcher(normalized).replaceAll(" ").trim();
+        return normalized.length() > MAX_FINGERPRINT_LENGTH
+                ? normalized.substring(0, MAX_FINGERPRINT_LENGTH) + "..."
+                : normalized;
+    }
+
+    // 한 구간의 SQL 기록
+    public static final class Recording implements AutoCloseable {
+
+        private int statementCount;
+        private long jdbcNanos;
+        private final Map<String, Integer> fingerprints = new LinkedHashMap<>();
+        private boolean closed;
+
+        private Recording() {}
+
+        public int getStatementCount() { return statementCount; }
+
+        public long getJdbcNanos() { return jdbcNanos; }
+
+        // 정규화된 SQL별 실행 횟수 (처음 실행된 순서)
+        public Map<String, Integer> getFingerprints() { return Collections.unmodifiableMap(fingerprints); }
+
+        // 같은 모양의 쿼리가 threshold 번 이상 반복되면 N+1 의심
+        public Map<String, Integer> getRepeatedFingerprints(int threshold) {
+            Map<String, Integer> repeated = new LinkedHashMap<>();
+            fingerprints.forEach((fingerprint, count) -> {
+                if (count >= threshold) {
+                    repeated.put(fingerprint, count);
+                }
+            });
+            return repeated;
+        }
+
+        @Override
+        public void close() {
+            if (!closed) {
+                closed = true;
+                Deque<Recording> recordings = ACTIVE.get();
+                if (recordings == null) {
+                    return;
+                }
+                recordings.remove(this);
+                if (recordings.isEmpty()) {
+                    ACTIVE.remove();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.gamecraft.studios.config;
+
+import org.hibernate.SessionEventListener;
+
+// 세션별 JDBC 실행 시간 측정 (Session 하나당 인스턴스 하나, 세션은 한 스레드에서만 사용)
+// 등록: spring.jpa.properties.hibernate.session.events.auto
+public class SqlTimingSessionListener implements SessionEventListener {
+
+    private long executeStartedAt;
+    private long batchStartedAt;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        executeStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        SqlStatementRecorder.onJdbcTime(System.nanoTime() - executeStartedAt);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStartedAt = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        SqlStatementRecorder.onJdbcTime(System.nanoTime() - batchStartedAt);
+    }
+}
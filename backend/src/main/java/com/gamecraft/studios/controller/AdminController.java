@@ -1,19 +1,46 @@
 package com.gamecraft.studios.controller;
 
+import com.gamecraft.studios.config.SqlStatementMetrics;
+import com.gamecraft.studios.dto.ApplicantSearchHit;
+import com.gamecraft.studios.dto.ApplicationSearchHit;
+import com.gamecraft.studios.dto.ApplicationSummary;
+import com.gamecraft.studios.dto.BulkStatusUpdateResult;
+import com.gamecraft.studios.dto.StatusChangeResult;
 import com.gamecraft.studios.entity.Application;
 import com.gamecraft.studios.entity.User;
 import com.gamecraft.studios.repository.ApplicationRepository;
 import com.gamecraft.studios.repository.UserRepository;
+import com.gamecraft.studios.security.AuthenticatedUser;
+import com.gamecraft.studios.security.CurrentUser;
+import com.gamecraft.studios.security.CurrentUserCache;
+import com.gamecraft.studios.service.ApplicationDailyStatsService;
+import com.gamecraft.studios.service.ApplicationExportService;
+import com.gamecraft.studios.service.ApplicationSearchService;
+import com.gamecraft.studios.service.ApplicationStatusService;
+import com.gamecraft.studios.service.DashboardStatisticsService;
+import com.gamecraft.studios.service.DashboardStreamService;
+import com.gamecraft.studios.service.SkillStatisticsService;
+import com.gamecraft.studios.util.KeysetCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.user.OAuth2User;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
 
@@ -27,16 +54,44 @@ public class AdminController {
     @Autowired
     private UserRepository userRepository;
 
-    /**
-     * 관리자 권한 확인
-     */
-    private boolean isAdmin(OAuth2User oauth2User) {
-        if (oauth2User == null) return false;
+    @Autowired
+    private DashboardStatisticsService dashboardStatisticsService;
+
+    @Autowired
+    private ApplicationDailyStatsService applicationDailyStatsService;
+
+    @Autowired
+    private DashboardStreamService dashboardStreamService;
+
+    @Autowired
+    private CurrentUserCache currentUserCache;
+
+    @Autowired
+    private ApplicationStatusService applicationStatusService;
+
+    @Autowired
+    private ApplicationExportService applicationExportService;
+
+    @Autowired
+    private ApplicationSearchService applicationSearchService;
+
+    @Autowired
+    private SkillStatisticsService skillStatisticsService;
+
+    @Autowired
+    private SqlStatementMetrics sqlStatementMetrics;
+
+    @Value("${dashboard.daily-stats.max-range-days:366}")
+    private int maxDailyRangeDays;
 
-        Long kakaoId = Long.valueOf(oauth2User.getAttribute("id").toString());
-        Optional<User> userOpt = userRepository.findByKakaoId(String.valueOf(kakaoId));
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final DateTimeFormatter EXPORT_FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
 
-        return userOpt.isPresent() && userOpt.get().getRole() == User.Role.ADMIN;
+    /**
+     * 관리자 권한 확인 (CurrentUserCache에서 해석된 사용자 기준, DB 조회 없음)
+     */
+    private boolean isAdmin(AuthenticatedUser currentUser) {
+        return currentUser != null && currentUser.isAdmin();
     }
 
     /**
@@ -44,7 +99,8 @@ public class AdminController {
      */
     @PostMapping("/promote-to-admin")
     public ResponseEntity<Map<String, Object>> promoteToAdmin(
-            @AuthenticationPrincipal OAuth2User oauth2User) {
+            @AuthenticationPrincipal OAuth2User oauth2User,
+            @CurrentUser AuthenticatedUser currentUser) {
 
         Map<String, Object> response = new HashMap<>();
 
@@ -55,8 +111,7 @@ public class AdminController {
         }
 
         try {
-            Long kakaoId = Long.valueOf(oauth2User.getAttribute("id").toString());
-            Optional<User> userOpt = userRepository.findByKakaoId(String.valueOf(kakaoId));
+            Optional<User> userOpt = currentUser != null ? userRepository.findById(currentUser.getId()) : Optional.empty();
 
             if (!userOpt.isPresent()) {
                 response.put("success", false);
@@ -68,6 +123,9 @@ public class AdminController {
             user.setRole(User.Role.ADMIN);
             userRepository.save(user);
 
+            // 역할이 바뀌었으므로 캐시된 사용자 정보 무효화
+            currentUserCache.invalidate(user.getKakaoId());
+
             response.put("success", true);
             response.put("message", "🔑 관리자 권한이 부여되었습니다!");
             response.put("user", Map.of(
@@ -90,52 +148,115 @@ public class AdminController {
      */
     @GetMapping("/dashboard")
     public ResponseEntity<Map<String, Object>> getDashboard(
-            @AuthenticationPrincipal OAuth2User oauth2User) {
+            @CurrentUser AuthenticatedUser currentUser) {
 
         Map<String, Object> response = new HashMap<>();
 
-        if (!isAdmin(oauth2User)) {
+        if (!isAdmin(currentUser)) {
             response.put("success", false);
             response.put("message", "관리자 권한이 필요합니다");
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
         }
 
-        try {
-            // 전체 통계
-            long totalApplications = applicationRepository.count();
-            long totalUsers = userRepository.count();
-
-            // 상태별 통계
-            Map<String, Long> statusStats = new HashMap<>();
-            for (Application.Status status : Application.Status.values()) {
-                long count = applicationRepository.findByStatusOrderByCreatedAtDesc(status).size();
-                statusStats.put(status.name(), count);
-            }
+        // 메모리 카운터에서 바로 응답 (DB 조회 없음)
+        response.put("success", true);
+        response.put("statistics", dashboardStatisticsService.getStatistics());
 
-            // 회사별 통계
-            List<Object[]> companyStats = applicationRepository.findApplicationCountByCompany();
-            Map<String, Object> companyData = new HashMap<>();
-            for (Object[] stat : companyStats) {
-                companyData.put((String) stat[0], stat[1]);
-            }
+        return ResponseEntity.ok(response);
+    }
 
-            // 최근 지원서들
-            List<Application> recentApps = applicationRepository.findRecentApplications(
-                    LocalDateTime.now().minusDays(7)
-            );
+    /**
+     * 실시간 대시보드 (Server-Sent Events)
+     * - event: snapshot → /dashboard 의 statistics 와 같은 구조 (연결 직후, 통계 대사로 값이 바뀐 경우)
+     * - event: delta → 같은 키 구조의 변화량 (클라이언트에서 더함)
+     */
+    @GetMapping("/dashboard/stream")
+    public ResponseEntity<SseEmitter> streamDashboard(@CurrentUser AuthenticatedUser currentUser) {
+
+        if (!isAdmin(currentUser)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        SseEmitter emitter = dashboardStreamService.subscribe();
+        if (emitter == null) {
+            // 구독자 수 한도 초과 - EventSource는 잠시 후 자동 재연결
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header("X-Accel-Buffering", "no")
+                .body(emitter);
+    }
+
+    /**
+     * 일별 지원서 수 (대시보드 차트) - 일별 집계 테이블만 읽음
+     * 기본: 오늘 포함 최근 30일
+     */
+    @GetMapping("/dashboard/daily")
+    public ResponseEntity<Map<String, Object>> getDailyStatistics(
+            @CurrentUser AuthenticatedUser currentUser,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (!isAdmin(currentUser)) {
+            response.put("success", false);
+            response.put("message", "관리자 권한이 필요합니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+
+        if (start.isAfter(end) || start.plusDays(maxDailyRangeDays).isBefore(end.plusDays(1))) {
+            response.put("success", false);
+            response.put("message", "조회 기간은 최대 " + maxDailyRangeDays + "일입니다");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        response.put("success", true);
+        response.put("from", start);
+        response.put("to", end);
+        response.put("daily", applicationDailyStatsService.getDailySeries(start, end));
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 일별 집계 재계산 (과거 데이터 백필 / 오차 보정)
+     */
+    @PostMapping("/dashboard/daily/rebuild")
+    public ResponseEntity<Map<String, Object>> rebuildDailyStatistics(
+            @CurrentUser AuthenticatedUser currentUser,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (!isAdmin(currentUser)) {
+            response.put("success", false);
+            response.put("message", "관리자 권한이 필요합니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        try {
+            LocalDate end = to != null ? to : LocalDate.now();
+            long rows = applicationDailyStatsService.rebuild(from, end);
 
             response.put("success", true);
-            response.put("statistics", Map.of(
-                    "totalApplications", totalApplications,
-                    "totalUsers", totalUsers,
-                    "statusStats", statusStats,
-                    "companyStats", companyData,
-                    "recentApplicationsCount", recentApps.size()
-            ));
+            response.put("message", "✅ 일별 집계를 다시 계산했습니다: " + from + " ~ " + end);
+            response.put("rowCount", rows);
+
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
 
         } catch (Exception e) {
             response.put("success", false);
-            response.put("message", "대시보드 조회 오류: " + e.getMessage());
+            response.put("message", "일별 집계 재계산 오류: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
 
@@ -143,52 +264,59 @@ public class AdminController {
     }
 
     /**
-     * 모든 지원서 목록 조회 (페이징)
+     * 모든 지원서 목록 조회 (키셋 페이징)
+     * - 필터/정렬/페이지 자르기 모두 DB에서 처리, 다음 페이지는 nextCursor로 요청
+     * - totalCount는 첫 페이지(커서 없음)에서만 계산
      */
     @GetMapping("/applications")
     public ResponseEntity<Map<String, Object>> getAllApplications(
-            @AuthenticationPrincipal OAuth2User oauth2User,
+            @CurrentUser AuthenticatedUser currentUser,
             @RequestParam(defaultValue = "ALL") String status,
-            @RequestParam(defaultValue = "") String company) {
+            @RequestParam(defaultValue = "") String company,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
 
         Map<String, Object> response = new HashMap<>();
 
-        if (!isAdmin(oauth2User)) {
+        if (!isAdmin(currentUser)) {
             response.put("success", false);
             response.put("message", "관리자 권한이 필요합니다");
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
         }
 
         try {
-            List<Application> applications;
-
-            // 상태별 필터링
-            if ("ALL".equals(status)) {
-                applications = applicationRepository.findAll();
+            Application.Status statusFilter = "ALL".equals(status) ? null : Application.Status.valueOf(status);
+            String companyPattern = company.isBlank() ? null : toContainsPattern(company);
+            int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+            // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+            Limit limit = Limit.of(pageSize + 1);
+            List<ApplicationSummary> applications;
+            if (cursor == null || cursor.isBlank()) {
+                applications = applicationRepository.findPageForAdmin(statusFilter, companyPattern, limit);
+                response.put("totalCount", applicationRepository.countForAdmin(statusFilter, companyPattern));
             } else {
-                Application.Status statusEnum = Application.Status.valueOf(status);
-                applications = applicationRepository.findByStatusOrderByCreatedAtDesc(statusEnum);
+                KeysetCursor after = KeysetCursor.decode(cursor);
+                applications = applicationRepository.findPageForAdminAfter(
+                        statusFilter, companyPattern, after.getCreatedAt(), after.getId(), limit);
             }
 
-            // 회사별 필터링
-            if (!company.isEmpty()) {
-                applications = applications.stream()
-                        .filter(app -> app.getCompany().toLowerCase().contains(company.toLowerCase()))
-                        .toList();
+            boolean hasNext = applications.size() > pageSize;
+            if (hasNext) {
+                applications = applications.subList(0, pageSize);
             }
 
-            // 최신순 정렬
-            applications = applications.stream()
-                    .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
-                    .toList();
+            ApplicationSummary last = applications.isEmpty() ? null : applications.get(applications.size() - 1);
 
             response.put("success", true);
-            response.put("totalCount", applications.size());
+            response.put("size", applications.size());
+            response.put("hasNext", hasNext);
+            response.put("nextCursor", hasNext ? new KeysetCursor(last.getCreatedAt(), last.getId()).encode() : null);
             response.put("applications", applications.stream().map(app -> {
                 Map<String, Object> appData = new HashMap<>();
                 appData.put("id", app.getId());
-                appData.put("applicantName", app.getUser().getName());
-                appData.put("applicantEmail", app.getUser().getEmail());
+                appData.put("applicantName", app.getApplicantName());
+                appData.put("applicantEmail", app.getApplicantEmail());
                 appData.put("company", app.getCompany());
                 appData.put("position", app.getPosition());
                 appData.put("status", app.getStatus());
@@ -200,6 +328,11 @@ public class AdminController {
                 return appData;
             }).toList());
 
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", "잘못된 조회 조건: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+
         } catch (Exception e) {
             response.put("success", false);
             response.put("message", "지원서 목록 조회 오류: " + e.getMessage());
@@ -209,17 +342,70 @@ public class AdminController {
         return ResponseEntity.ok(response);
     }
 
+    // 부분 일치 LIKE 패턴 (입력의 %, _ 는 문자 그대로 검색)
+    private String toContainsPattern(String keyword) {
+        String escaped = keyword.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
+
+    /**
+     * 지원서 내보내기 (CSV / NDJSON 스트리밍)
+     * - 목록과 같은 필터, 전체 결과를 페이지 없이 한 번에 내려받음
+     */
+    @GetMapping("/applications/export")
+    public ResponseEntity<?> exportApplications(
+            @CurrentUser AuthenticatedUser currentUser,
+            @RequestParam(defaultValue = "ALL") String status,
+            @RequestParam(defaultValue = "") String company,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (!isAdmin(currentUser)) {
+            response.put("success", false);
+            response.put("message", "관리자 권한이 필요합니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        ApplicationExportService.Format exportFormat;
+        Application.Status statusFilter;
+        try {
+            exportFormat = ApplicationExportService.Format.valueOf(format.toUpperCase());
+            statusFilter = "ALL".equals(status) ? null : Application.Status.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", "잘못된 조회 조건: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        String companyPattern = company.isBlank() ? null : toContainsPattern(company);
+        String fileName = "applications-" + LocalDateTime.now().format(EXPORT_FILE_TIMESTAMP)
+                + "." + exportFormat.getExtension();
+
+        // 응답 본문은 요청 스레드가 아닌 MVC 비동기 스레드에서 기록됨
+        StreamingResponseBody body = outputStream ->
+                applicationExportService.export(exportFormat, statusFilter, companyPattern, outputStream);
+
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + fileName + "\"")
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .body(body);
+    }
+
     /**
      * 지원서 상세 조회 (관리자용)
      */
     @GetMapping("/applications/{applicationId}")
     public ResponseEntity<Map<String, Object>> getApplicationDetail(
-            @AuthenticationPrincipal OAuth2User oauth2User,
+            @CurrentUser AuthenticatedUser currentUser,
             @PathVariable Long applicationId) {
 
         Map<String, Object> response = new HashMap<>();
 
-        if (!isAdmin(oauth2User)) {
+        if (!isAdmin(currentUser)) {
             response.put("success", false);
             response.put("message", "관리자 권한이 필요합니다");
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
@@ -243,7 +429,7 @@ public class AdminController {
             appDetail.put("position", app.getPosition());
             appDetail.put("experienceLevel", app.getExperienceLevel());
             appDetail.put("jobType", app.getJobType());
-            appDetail.put("skills", app.getSkills() != null ? app.getSkills().split(",") : new String[0]);
+            appDetail.put("skills", app.getSkills() != null ? app.getSkills() : List.of());
             appDetail.put("coverLetter", app.getCoverLetter());
             appDetail.put("expectedSalary", app.getExpectedSalary());
             appDetail.put("availableStartDate", app.getAvailableStartDate());
@@ -279,58 +465,354 @@ public class AdminController {
 
     /**
      * 지원서 상태 변경
+     * 요청: { "status": "INTERVIEW", "expectedStatus": "REVIEWING"(선택), "adminNotes": "(선택)" }
+     * - expectedStatus 상태일 때만 변경 (없으면 현재 상태 기준) → 다른 관리자가 먼저 바꿨으면 409 + 현재 상태
+     * - 허용하지 않는 전이는 422 + 가능한 다음 상태
      */
     @PutMapping("/applications/{applicationId}/status")
     public ResponseEntity<Map<String, Object>> updateApplicationStatus(
-            @AuthenticationPrincipal OAuth2User oauth2User,
+            @CurrentUser AuthenticatedUser currentUser,
             @PathVariable Long applicationId,
             @RequestBody Map<String, Object> requestData) {
 
         Map<String, Object> response = new HashMap<>();
 
-        if (!isAdmin(oauth2User)) {
+        if (!isAdmin(currentUser)) {
             response.put("success", false);
             response.put("message", "관리자 권한이 필요합니다");
             return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
         }
 
+        StatusChangeResult result;
         try {
-            Optional<Application> appOpt = applicationRepository.findById(applicationId);
+            Application.Status status = Application.Status.valueOf((String) requestData.get("status"));
+            String expected = (String) requestData.get("expectedStatus");
+            Application.Status expectedStatus = expected != null ? Application.Status.valueOf(expected) : null;
+            String adminNotes = (String) requestData.get("adminNotes");
 
-            if (!appOpt.isPresent()) {
+            result = applicationStatusService.changeStatus(applicationId, expectedStatus, status, adminNotes);
+
+        } catch (IllegalArgumentException | NullPointerException | ClassCastException e) {
+            response.put("success", false);
+            response.put("message", "잘못된 요청: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "상태 변경 오류: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+
+        response.put("applicationId", applicationId);
+
+        switch (result.getOutcome()) {
+            case NOT_FOUND -> {
                 response.put("success", false);
                 response.put("message", "지원서를 찾을 수 없습니다");
-                return ResponseEntity.notFound().build();
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
+            case CONFLICT -> {
+                response.put("success", false);
+                response.put("message", "다른 관리자가 먼저 상태를 변경했습니다: "
+                        + result.getCurrentStatus().getDescription());
+                response.put("currentStatus", result.getCurrentStatus());
+                response.put("statusDescription", result.getCurrentStatus().getDescription());
+                return ResponseEntity.status(HttpStatus.CONFLICT).body(response);
+            }
+            case NOT_ALLOWED -> {
+                response.put("success", false);
+                response.put("message", "변경할 수 없는 상태입니다: " + result.getCurrentStatus().getDescription()
+                        + " → " + requestData.get("status"));
+                response.put("currentStatus", result.getCurrentStatus());
+                response.put("allowedStatuses", result.getCurrentStatus().nextStatuses());
+                return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+            }
+            default -> {
+                response.put("success", true);
+                response.put("message", "✅ 지원서 상태가 변경되었습니다: " + result.getCurrentStatus().getDescription());
+                response.put("previousStatus", result.getPreviousStatus());
+                response.put("newStatus", result.getCurrentStatus());
+                response.put("statusDescription", result.getCurrentStatus().getDescription());
+                response.put("changed", result.getOutcome() == StatusChangeResult.Outcome.UPDATED);
+                response.put("updatedAt", result.getUpdatedAt());
+                return ResponseEntity.ok(response);
             }
+        }
+    }
 
-            Application app = appOpt.get();
+    /**
+     * 지원서 상태 일괄 변경
+     * 요청: { "applicationIds": [1, 2, 3], "status": "REVIEWING", "adminNotes": "(선택)" }
+     */
+    @PutMapping("/applications/status")
+    public ResponseEntity<Map<String, Object>> updateApplicationStatuses(
+            @CurrentUser AuthenticatedUser currentUser,
+            @RequestBody Map<String, Object> requestData) {
 
-            // 상태 변경
-            String newStatus = (String) requestData.get("status");
-            Application.Status status = Application.Status.valueOf(newStatus);
-            app.setStatus(status);
+        Map<String, Object> response = new HashMap<>();
 
-            // 관리자 메모 추가
-            if (requestData.containsKey("adminNotes")) {
-                String notes = (String) requestData.get("adminNotes");
-                app.setAdminNotes(notes);
+        if (!isAdmin(currentUser)) {
+            response.put("success", false);
+            response.put("message", "관리자 권한이 필요합니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        try {
+            Object rawIds = requestData.get("applicationIds");
+            if (!(rawIds instanceof List<?> idList)) {
+                throw new IllegalArgumentException("applicationIds 목록이 필요합니다");
             }
+            List<Long> applicationIds = idList.stream()
+                    .map(id -> Long.valueOf(id.toString()))
+                    .toList();
+
+            Application.Status status = Application.Status.valueOf((String) requestData.get("status"));
+            String adminNotes = (String) requestData.get("adminNotes");
 
-            Application updatedApp = applicationRepository.save(app);
+            BulkStatusUpdateResult result = applicationStatusService.updateStatuses(applicationIds, status, adminNotes);
 
             response.put("success", true);
-            response.put("message", "✅ 지원서 상태가 변경되었습니다: " + status.getDescription());
-            response.put("applicationId", updatedApp.getId());
-            response.put("newStatus", updatedApp.getStatus());
-            response.put("statusDescription", updatedApp.getStatus().getDescription());
-            response.put("updatedAt", updatedApp.getUpdatedAt());
+            response.put("message", "✅ 지원서 " + result.count(BulkStatusUpdateResult.Outcome.UPDATED)
+                    + "건의 상태가 변경되었습니다: " + status.getDescription());
+            response.put("newStatus", status);
+            response.put("statusDescription", status.getDescription());
+            response.put("updatedCount", result.count(BulkStatusUpdateResult.Outcome.UPDATED));
+            response.put("unchangedCount", result.count(BulkStatusUpdateResult.Outcome.UNCHANGED));
+            response.put("notFoundCount", result.count(BulkStatusUpdateResult.Outcome.NOT_FOUND));
+            response.put("notAllowedCount", result.count(BulkStatusUpdateResult.Outcome.NOT_ALLOWED));
+            response.put("results", result.getItems().stream().map(item -> {
+                Map<String, Object> itemData = new HashMap<>();
+                itemData.put("applicationId", item.getApplicationId());
+                itemData.put("result", item.getOutcome());
+                itemData.put("previousStatus", item.getPreviousStatus());
+                return itemData;
+            }).toList());
+
+        } catch (IllegalArgumentException | NullPointerException | ClassCastException e) {
+            response.put("success", false);
+            response.put("message", "잘못된 요청: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
 
         } catch (Exception e) {
             response.put("success", false);
-            response.put("message", "상태 변경 오류: " + e.getMessage());
+            response.put("message", "상태 일괄 변경 오류: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 지원서 전문 검색 (회사/포지션/자기소개서, 관련도 순)
+     */
+    @GetMapping("/search/applications")
+    public ResponseEntity<Map<String, Object>> searchApplications(
+            @CurrentUser AuthenticatedUser currentUser,
+            @RequestParam String q,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (!isAdmin(currentUser)) {
+            response.put("success", false);
+            response.put("message", "관리자 권한이 필요합니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        try {
+            List<ApplicationSearchHit> hits = applicationSearchService.searchApplications(q, page, size);
+
+            List<Map<String, Object>> results = hits.stream().map(hit -> {
+                Map<String, Object> hitData = new HashMap<>();
+                hitData.put("id", hit.getId());
+                hitData.put("applicantName", hit.getApplicantName());
+                hitData.put("applicantEmail", hit.getApplicantEmail());
+                hitData.put("company", hit.getCompany());
+                hitData.put("position", hit.getPosition());
+                hitData.put("status", hit.getStatus());
+                hitData.put("submittedAt", hit.getCreatedAt());
+                hitData.put("rank", hit.getRank());
+                return hitData;
+            }).toList();
+
+            response.put("success", true);
+            response.put("applications", results);
+            response.put("page", page);
+            response.put("size", results.size());
+
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "지원서 검색 오류: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 지원자 이름 검색 (부분 일치 + 오타 허용)
+     */
+    @GetMapping("/search/applicants")
+    public ResponseEntity<Map<String, Object>> searchApplicants(
+            @CurrentUser AuthenticatedUser currentUser,
+            @RequestParam String name,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (!isAdmin(currentUser)) {
+            response.put("success", false);
+            response.put("message", "관리자 권한이 필요합니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        try {
+            List<ApplicantSearchHit> hits = applicationSearchService.searchApplicants(name, limit);
+
+            List<Map<String, Object>> results = hits.stream().map(hit -> {
+                Map<String, Object> hitData = new HashMap<>();
+                hitData.put("id", hit.getId());
+                hitData.put("name", hit.getName());
+                hitData.put("email", hit.getEmail());
+                hitData.put("applicationCount", hit.getApplicationCount());
+                hitData.put("similarity", hit.getSimilarity());
+                return hitData;
+            }).toList();
+
+            response.put("success", true);
+            response.put("applicants", results);
+            response.put("size", results.size());
+
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "지원자 검색 오류: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 지원자 기술 분포 (지원서 수 많은 순, 주기적으로 갱신된 캐시)
+     */
+    @GetMapping("/skills")
+    public ResponseEntity<Map<String, Object>> getSkillHistogram(
+            @CurrentUser AuthenticatedUser currentUser,
+            @RequestParam(defaultValue = "50") int limit) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (!isAdmin(currentUser)) {
+            response.put("success", false);
+            response.put("message", "관리자 권한이 필요합니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        response.put("success", true);
+        response.put("skills", skillStatisticsService.getHistogram(limit));
+        response.put("updatedAt", skillStatisticsService.getHistogramUpdatedAt());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 특정 기술을 가진 지원서 목록 (최신순)
+     */
+    @GetMapping("/skills/applications")
+    public ResponseEntity<Map<String, Object>> getApplicationsBySkill(
+            @CurrentUser AuthenticatedUser currentUser,
+            @RequestParam String skill,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (!isAdmin(currentUser)) {
+            response.put("success", false);
+            response.put("message", "관리자 권한이 필요합니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        try {
+            List<ApplicationSummary> applications = skillStatisticsService.findApplicationsBySkill(skill, page, size);
+
+            List<Map<String, Object>> results = applications.stream().map(summary -> {
+                Map<String, Object> appData = new HashMap<>();
+                appData.put("id", summary.getId());
+                appData.put("applicantName", summary.getApplicantName());
+                appData.put("applicantEmail", summary.getApplicantEmail());
+                appData.put("company", summary.getCompany());
+                appData.put("position", summary.getPosition());
+                appData.put("status", summary.getStatus());
+                appData.put("submittedAt", summary.getCreatedAt());
+                return appData;
+            }).toList();
+
+            response.put("success", true);
+            response.put("skill", skill.trim());
+            response.put("applications", results);
+            response.put("page", page);
+            response.put("size", results.size());
+            if (page == 0) {
+                response.put("totalCount", skillStatisticsService.countApplicationsBySkill(skill));
+            }
+
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "기술별 지원서 조회 오류: " + e.getMessage());
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
 
         return ResponseEntity.ok(response);
     }
-}
\ No newline at end of file
+
+    /**
+     * 요청별 SQL 지표 - 요청당 평균 SQL 수가 많은 엔드포인트 순 (N+1 의심 횟수 포함)
+     */
+    @GetMapping("/metrics/sql")
+    public ResponseEntity<Map<String, Object>> getSqlMetrics(
+            @CurrentUser AuthenticatedUser currentUser,
+            @RequestParam(defaultValue = "20") int limit) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (!isAdmin(currentUser)) {
+            response.put("success", false);
+            response.put("message", "관리자 권한이 필요합니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        response.put("success", true);
+        response.put("sql", sqlStatementMetrics.snapshot(Math.max(1, Math.min(limit, MAX_PAGE_SIZE))));
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 요청별 SQL 지표 초기화 (개선 전후 비교용)
+     */
+    @DeleteMapping("/metrics/sql")
+    public ResponseEntity<Map<String, Object>> resetSqlMetrics(
+            @CurrentUser AuthenticatedUser currentUser) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (!isAdmin(currentUser)) {
+            response.put("success", false);
+            response.put("message", "관리자 권한이 필요합니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        sqlStatementMetrics.reset();
+        response.put("success", true);
+        response.put("message", "SQL 지표를 초기화했습니다");
+
+        return ResponseEntity.ok(response);
+    }
+}
@@ -0,0 +1,492 @@
+package com.gamecraft.studios.controller;
+
+import com.gamecraft.studios.dto.ApplicationSubmissionResult;
+import com.gamecraft.studios.dto.ApplicationSummary;
+import com.gamecraft.studios.dto.FileUploadResult;
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.entity.StoredFile;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import com.gamecraft.studios.repository.StoredFileRepository;
+import com.gamecraft.studios.security.AuthenticatedUser;
+import com.gamecraft.studios.security.CurrentUser;
+import com.gamecraft.studios.service.ApplicationFileService;
+import com.gamecraft.studios.service.ApplicationFormInfoService;
+import com.gamecraft.studios.service.ApplicationSubmissionService;
+import com.gamecraft.studios.service.FileStorageService;
+import com.gamecraft.studios.service.MediaProcessingService;
+import com.gamecraft.studios.util.FileUtil;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+@RestController
+@RequestMapping("/application")
+public class ApplicationController {
+
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private ApplicationSubmissionService applicationSubmissionService;
+
+    @Autowired
+    private ApplicationFormInfoService applicationFormInfoService;
+
+    @Autowired
+    private ApplicationFileService applicationFileService;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    /**
+     * 지원서 폼 선택지 (회사/포지션/경력/직무) - 메모리에 미리 계산된 값
+     */
+    @GetMapping("/form-info")
+    public ResponseEntity<Map<String, Object>> getFormInfo() {
+        return ResponseEntity.ok(applicationFormInfoService.getFormInfo());
+    }
+
+    /**
+     * 지원서 제출
+     * - 같은 회사/포지션 재지원은 409 (기존 지원서 id 포함)
+     * - Idempotency-Key 헤더가 있으면 같은 키의 재시도에 처음 결과를 그대로 응답 (Idempotent-Replayed: true)
+     */
+    @PostMapping("/create")
+    public ResponseEntity<Map<String, Object>> createApplication(
+            @CurrentUser AuthenticatedUser currentUser,
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @RequestBody Map<String, Object> requestData) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (currentUser == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+
+        if (idempotencyKey != null && (idempotencyKey.isBlank()
+                || idempotencyKey.length() > ApplicationSubmissionService.MAX_IDEMPOTENCY_KEY_LENGTH)) {
+            response.put("success", false);
+            response.put("message", "Idempotency-Key는 1~" + ApplicationSubmissionService.MAX_IDEMPOTENCY_KEY_LENGTH
+                    + "자여야 합니다");
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        ApplicationSubmissionResult result;
+        try {
+            result = applicationSubmissionService.submit(currentUser.getId(), requestData, idempotencyKey);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", "잘못된 지원서 요청: " + e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "지원서 제출 오류: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+
+        if (result.getOutcome() == ApplicationSubmissionResult.Outcome.KEY_REUSED) {
+            response.put("success", false);
+            response.put("message", "이미 다른 요청에 사용된 Idempotency-Key입니다");
+            return ResponseEntity.status(HttpStatus.UNPROCESSABLE_ENTITY).body(response);
+        }
+
+        response.put("applicationId", result.getApplicationId());
+        response.put("company", result.getCompany());
+        response.put("position", result.getPosition());
+        response.put("status", result.getStatus());
+
+        HttpStatus httpStatus;
+        if (result.getOutcome() == ApplicationSubmissionResult.Outcome.DUPLICATE) {
+            response.put("success", false);
+            response.put("message", "이미 지원한 포지션입니다: " + result.getCompany() + " - " + result.getPosition());
+            httpStatus = HttpStatus.CONFLICT;
+        } else {
+            response.put("success", true);
+            response.put("message", "🎮 지원서가 제출되었습니다: " + result.getCompany() + " - " + result.getPosition());
+            httpStatus = HttpStatus.CREATED;
+        }
+
+        return ResponseEntity.status(httpStatus)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.isReplayed()))
+                .body(response);
+    }
+
+    /**
+     * 내 지원서 목록 (최신순)
+     */
+    @GetMapping("/my-list")
+    public ResponseEntity<Map<String, Object>> getMyApplications(@CurrentUser AuthenticatedUser currentUser) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (currentUser == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+
+        List<ApplicationSummary> summaries = applicationRepository.findSummariesByUserId(currentUser.getId());
+        List<Map<String, Object>> applications = summaries.stream()
+                .map(summary -> {
+                    Map<String, Object> item = new HashMap<>();
+                    item.put("id", summary.getId());
+                    item.put("company", summary.getCompany());
+                    item.put("position", summary.getPosition());
+                    item.put("status", summary.getStatus());
+                    item.put("statusDescription", summary.getStatus().getDescription());
+                    item.put("submittedAt", summary.getCreatedAt());
+                    item.put("updatedAt", summary.getUpdatedAt());
+                    return item;
+                })
+                .toList();
+
+        response.put("success", true);
+        response.put("message", "내 지원서 목록");
+        response.put("totalCount", applications.size());
+        response.put("applications", applications);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 이력서/포트폴리오 업로드 (multipart "file", 본인 지원서만)
+     * - multipart는 지연 파싱(spring.servlet.multipart.resolve-lazily) → 권한 확인 전에는 본문을 읽지 않음
+     * - 업로드 본문은 디스크로만 흘려보냄 (file-size-threshold: 0)
+     * - 이미 저장된 내용과 같으면 새로 저장하지 않고 참조만 추가 (deduplicated: true)
+     */
+    @PostMapping("/{applicationId}/files/{kind}")
+    public ResponseEntity<Map<String, Object>> uploadFile(
+            @CurrentUser AuthenticatedUser currentUser,
+            @PathVariable Long applicationId,
+            @PathVariable String kind,
+            HttpServletRequest request) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (currentUser == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+
+        try {
+            FileStorageService.Kind fileKind = FileStorageService.Kind.from(kind);
+
+            Optional<Long> ownerId = applicationRepository.findOwnerId(applicationId);
+            if (ownerId.isEmpty()) {
+                response.put("success", false);
+                response.put("message", "지원서를 찾을 수 없습니다");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
+            if (!ownerId.get().equals(currentUser.getId())) {
+                response.put("success", false);
+                response.put("message", "본인 지원서에만 파일을 올릴 수 있습니다");
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+            }
+
+            MultipartHttpServletRequest multipartRequest =
+                    WebUtils.getNativeRequest(request, MultipartHttpServletRequest.class);
+            MultipartFile file = multipartRequest != null ? multipartRequest.getFile("file") : null;
+            if (file == null) {
+                response.put("success", false);
+                response.put("message", "multipart/form-data 의 file 항목이 필요합니다");
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            FileUploadResult uploaded = applicationFileService.upload(applicationId, fileKind, file);
+
+            response.put("success", true);
+            response.put("message", "📎 파일이 업로드되었습니다: " + uploaded.getOriginalFilename());
+            putFileInfo(response, applicationId, fileKind, uploaded);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+
+        } catch (MaxUploadSizeExceededException e) {
+            response.put("success", false);
+            response.put("message", "파일이 너무 큽니다 (이력서 최대 "
+                    + fileStorageService.getMaxSize(FileStorageService.Kind.RESUME) / (1024 * 1024) + "MB, 포트폴리오 최대 "
+                    + fileStorageService.getMaxSize(FileStorageService.Kind.PORTFOLIO) / (1024 * 1024) + "MB)");
+            return ResponseEntity.status(HttpStatus.PAYLOAD_TOO_LARGE).body(response);
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "파일 업로드 오류: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 해시로 이력서/포트폴리오 첨부 (본문 전송 없음, 본인 지원서만)
+     * - body: { "sha256": "...", "fileName": "..." }
+     * - 본인이 이미 올린 적 있는 파일만 가능, 없으면 404 → 클라이언트는 일반 업로드로 다시 요청
+     */
+    @PostMapping("/{applicationId}/files/{kind}/by-hash")
+    public ResponseEntity<Map<String, Object>> attachFileByHash(
+            @CurrentUser AuthenticatedUser currentUser,
+            @PathVariable Long applicationId,
+            @PathVariable String kind,
+            @RequestBody Map<String, String> requestData) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (currentUser == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+
+        try {
+            FileStorageService.Kind fileKind = FileStorageService.Kind.from(kind);
+
+            Optional<Long> ownerId = applicationRepository.findOwnerId(applicationId);
+            if (ownerId.isEmpty()) {
+                response.put("success", false);
+                response.put("message", "지원서를 찾을 수 없습니다");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
+            if (!ownerId.get().equals(currentUser.getId())) {
+                response.put("success", false);
+                response.put("message", "본인 지원서에만 파일을 올릴 수 있습니다");
+                return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+            }
+
+            Optional<FileUploadResult> attached = applicationFileService.attachExisting(applicationId,
+                    currentUser.getId(), fileKind, requestData.get("sha256"), requestData.get("fileName"));
+            if (attached.isEmpty()) {
+                response.put("success", false);
+                response.put("message", "저장된 파일이 없습니다. 파일을 업로드해 주세요");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
+
+            FileUploadResult uploaded = attached.get();
+            response.put("success", true);
+            response.put("message", "📎 파일이 첨부되었습니다: " + uploaded.getOriginalFilename());
+            putFileInfo(response, applicationId, fileKind, uploaded);
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+
+        } catch (IllegalArgumentException e) {
+            response.put("success", false);
+            response.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "파일 첨부 오류: " + e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 이력서/포트폴리오 다운로드 (본인 또는 관리자, Range 요청 지원)
+     * - 본문은 응답에 직접 전송하고 null 반환 (Spring은 응답 처리가 끝난 것으로 봄)
+     */
+    @GetMapping("/{applicationId}/files/{kind}")
+    public ResponseEntity<Map<String, Object>> downloadFile(
+            @CurrentUser AuthenticatedUser currentUser,
+            @PathVariable Long applicationId,
+            @PathVariable String kind,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Map<String, Object> body = new HashMap<>();
+
+        if (currentUser == null) {
+            body.put("success", false);
+            body.put("message", "로그인이 필요합니다");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(body);
+        }
+
+        FileStorageService.Kind fileKind;
+        try {
+            fileKind = FileStorageService.Kind.from(kind);
+        } catch (IllegalArgumentException e) {
+            body.put("success", false);
+            body.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(body);
+        }
+
+        Optional<Application> appOpt = applicationRepository.findById(applicationId);
+        if (appOpt.isEmpty()) {
+            body.put("success", false);
+            body.put("message", "지원서를 찾을 수 없습니다");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+        }
+
+        Application app = appOpt.get();
+        if (!currentUser.isAdmin() && !app.getUser().getId().equals(currentUser.getId())) {
+            body.put("success", false);
+            body.put("message", "파일을 볼 권한이 없습니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
+        }
+
+        String path = fileKind == FileStorageService.Kind.RESUME ? app.getResumeFilePath() : app.getPortfolioFilePath();
+        String fileName = fileKind == FileStorageService.Kind.RESUME ? app.getResumeFileName() : app.getPortfolioFileName();
+        Path file = path != null ? fileStorageService.resolve(path) : null;
+        if (file == null || !Files.isRegularFile(file)) {
+            body.put("success", false);
+            body.put("message", "업로드된 파일이 없습니다");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+        }
+
+        // 내용 기준 저장 파일은 경로에 확장자가 없으므로 업로드 때 판별한 형식 사용
+        Long fileId = fileKind == FileStorageService.Kind.RESUME ? app.getResumeFileId() : app.getPortfolioFileId();
+        Optional<FileUtil.FileType> fileType = fileId != null
+                ? storedFileRepository.findById(fileId).map(StoredFile::getContentType)
+                : FileUtil.FileType.fromExtension(FileUtil.extensionOf(path));
+        String contentType = fileType.map(FileUtil.FileType::getContentType).orElse("application/octet-stream");
+        FileUtil.sendFile(request, response, file, Files.size(file), contentType, fileName);
+        return null;
+    }
+
+    /**
+     * 포트폴리오 미디어 처리 상태 (본인 또는 관리자)
+     * - mediaStatus: PENDING / PROCESSING / READY / FAILED (영상/이미지가 아니면 null)
+     * - variants: 지금 받을 수 있는 결과물 (thumbnail / preview / transcoded)
+     */
+    @GetMapping("/{applicationId}/media")
+    public ResponseEntity<Map<String, Object>> getMediaStatus(
+            @CurrentUser AuthenticatedUser currentUser,
+            @PathVariable Long applicationId) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        if (currentUser == null) {
+            response.put("success", false);
+            response.put("message", "로그인이 필요합니다");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
+        }
+
+        Optional<Application> appOpt = applicationRepository.findById(applicationId);
+        if (appOpt.isEmpty()) {
+            response.put("success", false);
+            response.put("message", "지원서를 찾을 수 없습니다");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+        }
+
+        Application app = appOpt.get();
+        if (!currentUser.isAdmin() && !app.getUser().getId().equals(currentUser.getId())) {
+            response.put("success", false);
+            response.put("message", "파일을 볼 권한이 없습니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(response);
+        }
+
+        Optional<StoredFile> source = app.getPortfolioFileId() != null
+                ? storedFileRepository.findById(app.getPortfolioFileId())
+                : Optional.empty();
+        List<String> variants = source
+                .map(file -> MediaProcessingService.Variant.of(file.getContentType()).stream()
+                        .filter(variant -> fileStorageService.exists(
+                                fileStorageService.derivedPath(file.getSha256(), variant.getFileName())))
+                        .map(variant -> variant.name().toLowerCase(Locale.ROOT))
+                        .toList())
+                .orElse(List.of());
+
+        response.put("success", true);
+        response.put("message", "포트폴리오 미디어 처리 상태");
+        response.put("applicationId", applicationId);
+        response.put("mediaStatus", app.getMediaStatus());
+        response.put("mediaStatusDescription", app.getMediaStatus() != null ? app.getMediaStatus().getDescription() : null);
+        response.put("variants", variants);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 포트폴리오 미디어 결과물 다운로드 (본인 또는 관리자, Range 요청 지원)
+     */
+    @GetMapping("/{applicationId}/media/{variant}")
+    public ResponseEntity<Map<String, Object>> downloadMedia(
+            @CurrentUser AuthenticatedUser currentUser,
+            @PathVariable Long applicationId,
+            @PathVariable String variant,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Map<String, Object> body = new HashMap<>();
+
+        if (currentUser == null) {
+            body.put("success", false);
+            body.put("message", "로그인이 필요합니다");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(body);
+        }
+
+        MediaProcessingService.Variant mediaVariant;
+        try {
+            mediaVariant = MediaProcessingService.Variant.from(variant);
+        } catch (IllegalArgumentException e) {
+            body.put("success", false);
+            body.put("message", e.getMessage());
+            return ResponseEntity.badRequest().body(body);
+        }
+
+        Optional<Application> appOpt = applicationRepository.findById(applicationId);
+        if (appOpt.isEmpty()) {
+            body.put("success", false);
+            body.put("message", "지원서를 찾을 수 없습니다");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+        }
+
+        Application app = appOpt.get();
+        if (!currentUser.isAdmin() && !app.getUser().getId().equals(currentUser.getId())) {
+            body.put("success", false);
+            body.put("message", "파일을 볼 권한이 없습니다");
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(body);
+        }
+
+        Optional<StoredFile> source = app.getPortfolioFileId() != null
+                ? storedFileRepository.findById(app.getPortfolioFileId())
+                : Optional.empty();
+        Path file = source
+                .map(stored -> fileStorageService.resolve(
+                        fileStorageService.derivedPath(stored.getSha256(), mediaVariant.getFileName())))
+                .filter(Files::isRegularFile)
+                .orElse(null);
+        if (file == null) {
+            body.put("success", false);
+            body.put("message", "아직 만들어지지 않은 결과물입니다 (처리 상태: "
+                    + (app.getMediaStatus() != null ? app.getMediaStatus().getDescription() : "없음") + ")");
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(body);
+        }
+
+        String baseName = app.getPortfolioFileName() != null
+                ? app.getPortfolioFileName().replaceFirst("\\.[^.]*$", "")
+                : "portfolio";
+        FileUtil.sendFile(request, response, file, Files.size(file), mediaVariant.getContentType(),
+                baseName + "-" + mediaVariant.getFileName());
+        return null;
+    }
+
+    private static void putFileInfo(Map<String, Object> response, Long applicationId,
+                                    FileStorageService.Kind kind, FileUploadResult uploaded) {
+        response.put("applicationId", applicationId);
+        response.put("kind", kind.directory());
+        response.put("fileName", uploaded.getOriginalFilename());
+        response.put("contentType", uploaded.getType().getContentType());
+        response.put("size", uploaded.getSize());
+        response.put("sha256", uploaded.getSha256());
+        response.put("deduplicated", uploaded.isDeduplicated());
+    }
+}
@@ -2,6 +2,9 @@ package com.gamecraft.studios.controller;
 
 import com.gamecraft.studios.entity.User;
 import com.gamecraft.studios.repository.UserRepository;
+import com.gamecraft.studios.security.AuthenticatedUser;
+import com.gamecraft.studios.security.CurrentUser;
+import com.gamecraft.studios.security.CurrentUserCache;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.core.user.OAuth2User;
@@ -9,6 +12,7 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 @RestController
@@ -18,6 +22,8 @@ public class KakaoAuthController {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private CurrentUserCache currentUserCache;
 
     @GetMapping("/login-url")
     public Map<String, String> getKakaoLoginUrl() {
@@ -28,7 +34,8 @@ public class KakaoAuthController {
     }
 
     @GetMapping("/user-info")
-    public Map<String, Object> getUserInfo(@AuthenticationPrincipal OAuth2User oauth2User) {
+    public Map<String, Object> getUserInfo(@AuthenticationPrincipal OAuth2User oauth2User,
+                                           @CurrentUser AuthenticatedUser currentUser) {
         Map<String, Object> response = new HashMap<>();
 
         if (oauth2User == null) {
@@ -55,28 +62,39 @@ public class KakaoAuthController {
                 }
             }
 
-            Optional<User> existingUser = userRepository.findByKakaoId(String.valueOf(kakaoId));
-            User user;
-
-            if (existingUser.isPresent()) {
-                user = existingUser.get();
-                user.setName(nickname);
-                user.setEmail(email);
-                user.setProfileImage(profileImage);
-                userRepository.save(user);
+            AuthenticatedUser user;
 
+            if (currentUser != null && isSameProfile(currentUser, nickname, email, profileImage)) {
+                // 카카오 프로필이 그대로면 캐시된 사용자 정보로 응답 (DB 조회/저장 없음)
+                user = currentUser;
                 response.put("userStatus", "기존 사용자 정보 업데이트됨");
             } else {
-                user = new User();
-                user.setKakaoId(String.valueOf(kakaoId));
-                user.setName(nickname);
-                user.setEmail(email);
-                user.setProfileImage(profileImage);
-                user.setRole(User.Role.USER);
-                user.setStatus(User.Status.ACTIVE);
-                userRepository.save(user);
-
-                response.put("userStatus", "새 사용자 생성됨 - 카카오게임즈 지원 가능!");
+                Optional<User> existingUser = userRepository.findByKakaoId(String.valueOf(kakaoId));
+                User savedUser;
+
+                if (existingUser.isPresent()) {
+                    savedUser = existingUser.get();
+                    savedUser.setName(nickname);
+                    savedUser.setEmail(email);
+                    savedUser.setProfileImage(profileImage);
+                    userRepository.save(savedUser);
+
+                    response.put("userStatus", "기존 사용자 정보 업데이트됨");
+                } else {
+                    savedUser = new User();
+                    savedUser.setKakaoId(String.valueOf(kakaoId));
+                    savedUser.setName(nickname);
+                    savedUser.setEmail(email);
+                    savedUser.setProfileImage(profileImage);
+                    savedUser.setRole(User.Role.USER);
+                    savedUser.setStatus(User.Status.ACTIVE);
+                    userRepository.save(savedUser);
+
+                    response.put("userStatus", "새 사용자 생성됨 - 카카오게임즈 지원 가능!");
+                }
+
+                currentUserCache.invalidate(savedUser.getKakaoId());
+                user = AuthenticatedUser.from(savedUser);
             }
 
             response.put("success", true);
@@ -106,6 +124,12 @@ public class KakaoAuthController {
     }
 
 
+    private boolean isSameProfile(AuthenticatedUser user, String name, String email, String profileImage) {
+        return Objects.equals(user.getName(), name)
+                && Objects.equals(user.getEmail(), email)
+                && Objects.equals(user.getProfileImage(), profileImage);
+    }
+
     @PostMapping("/logout")
     public Map<String, Object> logout() {
         Map<String, Object> response = new HashMap<>();
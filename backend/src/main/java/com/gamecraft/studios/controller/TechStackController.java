@@ -1,12 +1,20 @@
 package com.gamecraft.studios.controller;
 
 import com.gamecraft.studios.dto.GitHubApiDto;
+import com.gamecraft.studios.dto.TechStackSnapshot;
+import com.gamecraft.studios.entity.TechStackObservation;
 import com.gamecraft.studios.service.GitHubTechStackService;
+import com.gamecraft.studios.service.SkillStatisticsService;
+import com.gamecraft.studios.service.TechStackTrendService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -17,9 +25,20 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "http://localhost:3000", allowCredentials = "true")
 public class TechStackController {
 
+    private static final Logger logger = LoggerFactory.getLogger(TechStackController.class);
+
+    // 스트리밍 연결 최대 유지 시간 (GitHub 검색 제한 시간보다 여유 있게)
+    private static final long STREAM_TIMEOUT_MS = 60_000L;
+
     @Autowired
     private GitHubTechStackService gitHubTechStackService;
 
+    @Autowired
+    private TechStackTrendService techStackTrendService;
+
+    @Autowired
+    private SkillStatisticsService skillStatisticsService;
+
     /**
      * GitHub 기반 실시간 트렌딩 기술 스택
      */
@@ -28,7 +47,20 @@ public class TechStackController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            List<GitHubApiDto.TechStack> trendingStacks = gitHubTechStackService.getTrendingTechStacks();
+            // DB 이력 기준 (증감률 포함, 다음 적재 전까지 캐시), 아직 이력이 없을 때만 스냅샷 로드
+            List<GitHubApiDto.TechStack> trendingStacks = techStackTrendService.getTrendingTechStacks();
+            boolean fromHistory = !trendingStacks.isEmpty();
+            TechStackSnapshot snapshot = fromHistory
+                    ? gitHubTechStackService.peekTrendingSnapshot()
+                    : gitHubTechStackService.getTrendingSnapshot();
+            if (!fromHistory) {
+                trendingStacks = snapshot.getTechStacks();
+            }
+
+            // GitHub 장애 + 스냅샷도 없는 경우(콜드 스타트 중 장애)에만 기본 데이터
+            if (trendingStacks.isEmpty()) {
+                trendingStacks = getFallbackTechStacks();
+            }
 
             // 카테고리별로 그룹핑
             Map<String, List<GitHubApiDto.TechStack>> groupedStacks = trendingStacks.stream()
@@ -38,9 +70,14 @@ public class TechStackController {
             response.put("data", groupedStacks);
             response.put("flatData", trendingStacks); // 프론트엔드에서 쉽게 사용
             response.put("totalCount", trendingStacks.size());
-            response.put("lastUpdated", LocalDateTime.now());
-            response.put("source", "GitHub API 실시간 데이터");
-            response.put("description", "GitHub ⭐ 수 기반 인기 기술 스택");
+            if (snapshot != null) {
+                response.put("lastUpdated", snapshot.getFetchedAt());
+                response.put("snapshotAgeSeconds", snapshot.getAgeSeconds());
+                response.put("partial", snapshot.isPartial());
+            }
+            response.put("degraded", gitHubTechStackService.isGitHubUnavailable());
+            response.put("source", fromHistory ? "GitHub 인기도 이력 (DB)" : "GitHub API 스냅샷 데이터 (주기적 갱신)");
+            response.put("description", "GitHub ⭐ 수 기반 인기 기술 스택 (7일/30일 증감률 포함)");
 
         } catch (Exception e) {
             response.put("success", false);
@@ -52,6 +89,72 @@ public class TechStackController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 기술 스택 인기도 이력 (최근 N일)
+     */
+    @GetMapping("/history")
+    public ResponseEntity<Map<String, Object>> getTechStackHistory(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "30") int days) {
+
+        Map<String, Object> response = new HashMap<>();
+
+        try {
+            List<TechStackObservation> history = techStackTrendService.getHistory(name, Math.min(days, 365));
+
+            response.put("success", true);
+            response.put("name", name);
+            response.put("days", days);
+            response.put("history", history.stream().map(observation -> Map.of(
+                    "popularityScore", observation.getPopularityScore(),
+                    "repositoryCount", observation.getRepositoryCount(),
+                    "observedAt", observation.getObservedAt()
+            )).toList());
+
+        } catch (Exception e) {
+            response.put("success", false);
+            response.put("message", "기술 스택 이력 조회 오류: " + e.getMessage());
+        }
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 트렌딩 기술 스택 스트리밍 (Server-Sent Events)
+     * - "tech-stack" 이벤트: 기술 스택 하나씩 (조회되는 즉시)
+     * - "summary" 이벤트: 인기도 순 정렬된 전체 결과 (마지막)
+     */
+    @GetMapping(value = "/trending/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamTrendingTechStacks() {
+        SseEmitter emitter = new SseEmitter(STREAM_TIMEOUT_MS);
+
+        gitHubTechStackService.streamTrendingTechStacks(techStack -> sendEvent(emitter, "tech-stack", techStack))
+                .whenComplete((trendingStacks, error) -> {
+                    if (error != null) {
+                        Map<String, Object> failure = new HashMap<>();
+                        failure.put("success", false);
+                        failure.put("message", "GitHub API 조회 중 오류가 발생했습니다: " + error.getMessage());
+                        failure.put("fallbackData", getFallbackTechStacks());
+                        sendEvent(emitter, "summary", failure);
+                        emitter.complete();
+                        return;
+                    }
+
+                    Map<String, Object> summary = new HashMap<>();
+                    summary.put("success", true);
+                    summary.put("data", trendingStacks.stream()
+                            .collect(Collectors.groupingBy(GitHubApiDto.TechStack::getCategory)));
+                    summary.put("flatData", trendingStacks);
+                    summary.put("totalCount", trendingStacks.size());
+                    summary.put("source", "GitHub API 스냅샷 데이터 (주기적 갱신)");
+
+                    sendEvent(emitter, "summary", summary);
+                    emitter.complete();
+                });
+
+        return emitter;
+    }
+
     /**
      * 카카오게임즈 맞춤 기술 스택 추천
      */
@@ -60,8 +163,10 @@ public class TechStackController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            List<GitHubApiDto.TechStack> gameStacks = gitHubTechStackService.getGameIndustryRecommendedStacks();
-            List<GitHubApiDto.TechStack> generalStacks = gitHubTechStackService.getTrendingTechStacks();
+            TechStackSnapshot gameSnapshot = gitHubTechStackService.getGameIndustrySnapshot();
+            TechStackSnapshot generalSnapshot = gitHubTechStackService.getTrendingSnapshot();
+            List<GitHubApiDto.TechStack> gameStacks = gameSnapshot.getTechStacks();
+            List<GitHubApiDto.TechStack> generalStacks = generalSnapshot.getTechStacks();
 
             // 게임업계 필수 + 일반 인기 기술 조합
             List<GitHubApiDto.TechStack> recommendedStacks = gameStacks.stream()
@@ -77,6 +182,7 @@ public class TechStackController {
             response.put("success", true);
             response.put("data", recommendedStacks);
             response.put("description", "카카오게임즈 회원플랫폼 개발자 추천 기술");
+            response.put("snapshotAgeSeconds", Math.max(gameSnapshot.getAgeSeconds(), generalSnapshot.getAgeSeconds()));
             response.put("categories", Map.of(
                     "핵심기술", "Java, Spring Boot, PostgreSQL, Redis",
                     "클라우드", "AWS, Docker, Kubernetes",
@@ -100,7 +206,8 @@ public class TechStackController {
         Map<String, Object> response = new HashMap<>();
 
         try {
-            List<GitHubApiDto.TechStack> trendingStacks = gitHubTechStackService.getTrendingTechStacks();
+            TechStackSnapshot snapshot = gitHubTechStackService.getTrendingSnapshot();
+            List<GitHubApiDto.TechStack> trendingStacks = snapshot.getTechStacks();
 
             // 지원서에서 선택하기 쉽게 이름만 추출
             List<String> techNames = trendingStacks.stream()
@@ -119,6 +226,7 @@ public class TechStackController {
             response.put("techNames", techNames);
             response.put("categorized", categorizedTechs);
             response.put("source", "GitHub 트렌딩 데이터 기반");
+            response.put("snapshotAgeSeconds", snapshot.getAgeSeconds());
 
         } catch (Exception e) {
             response.put("success", false);
@@ -129,7 +237,40 @@ public class TechStackController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 지원자들이 입력한 기술 분포 (GitHub 인기도와 비교용, 캐시된 집계)
+     */
+    @GetMapping("/applicant-skills")
+    public ResponseEntity<Map<String, Object>> getApplicantSkills(
+            @RequestParam(defaultValue = "20") int limit) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", skillStatisticsService.getHistogram(Math.min(limit, 100)));
+        response.put("updatedAt", skillStatisticsService.getHistogramUpdatedAt());
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * GitHub 조회 현황 (요청 병합 지표)
+     */
+    @GetMapping("/metrics")
+    public ResponseEntity<Map<String, Object>> getFetchMetrics() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("fetch", gitHubTechStackService.getFetchMetrics());
+        return ResponseEntity.ok(response);
+    }
+
     // 헬퍼 메서드들
+    private void sendEvent(SseEmitter emitter, String name, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON));
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트가 연결을 끊은 경우 - 남은 이벤트는 버림
+            logger.debug("기술 스택 스트리밍 전송 실패: {}", e.getMessage());
+        }
+    }
+
     private boolean isRelevantForGaming(String techName) {
         List<String> relevantTechs = List.of(
                 "Java", "Spring Boot", "Redis", "PostgreSQL", "TypeScript",
@@ -0,0 +1,15 @@
+package com.gamecraft.studios.dto;
+
+// 지원자 이름 유사도 검색 결과 (트라이그램 similarity 높은 순)
+public interface ApplicantSearchHit {
+
+    Long getId();
+
+    String getName();
+
+    String getEmail();
+
+    Long getApplicationCount();
+
+    Double getSimilarity();
+}
@@ -0,0 +1,25 @@
+package com.gamecraft.studios.dto;
+
+import com.gamecraft.studios.entity.Application;
+
+import java.time.LocalDateTime;
+
+// 지원서 전문 검색 결과 (네이티브 쿼리 인터페이스 프로젝션, rank 높은 순)
+public interface ApplicationSearchHit {
+
+    Long getId();
+
+    String getApplicantName();
+
+    String getApplicantEmail();
+
+    String getCompany();
+
+    String getPosition();
+
+    Application.Status getStatus();
+
+    LocalDateTime getCreatedAt();
+
+    Double getRank();
+}
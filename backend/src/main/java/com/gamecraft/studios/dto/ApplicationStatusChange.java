@@ -0,0 +1,15 @@
+package com.gamecraft.studios.dto;
+
+import java.time.LocalDateTime;
+
+// 조건부 상태 변경(UPDATE ... RETURNING)으로 바뀐 지원서 (네이티브 쿼리 인터페이스 프로젝션, 이벤트 발행에 필요한 컬럼만)
+public interface ApplicationStatusChange {
+
+    Long getId();
+
+    String getCompany();
+
+    LocalDateTime getCreatedAt();
+
+    LocalDateTime getUpdatedAt();
+}
@@ -0,0 +1,29 @@
+package com.gamecraft.studios.dto;
+
+import com.gamecraft.studios.entity.Application;
+
+import java.time.LocalDateTime;
+
+// 상태 일괄 변경 시 잠금 조회용 (상태 판단/이벤트 발행에 필요한 컬럼만)
+public class ApplicationStatusRow {
+
+    private final Long id;
+    private final String company;
+    private final Application.Status status;
+    private final LocalDateTime createdAt;
+
+    public ApplicationStatusRow(Long id, String company, Application.Status status, LocalDateTime createdAt) {
+        this.id = id;
+        this.company = company;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public Long getId() { return id; }
+
+    public String getCompany() { return company; }
+
+    public Application.Status getStatus() { return status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
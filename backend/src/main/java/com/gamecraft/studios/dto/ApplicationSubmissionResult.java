@@ -0,0 +1,47 @@
+package com.gamecraft.studios.dto;
+
+import com.gamecraft.studios.entity.Application;
+
+// 지원서 제출 결과
+public class ApplicationSubmissionResult {
+
+    public enum Outcome {
+        CREATED,        // 새로 제출됨
+        DUPLICATE,      // 같은 회사/포지션에 이미 제출한 지원서가 있음
+        KEY_REUSED      // 같은 Idempotency-Key로 다른 내용의 요청
+    }
+
+    private final Outcome outcome;
+    private final Long applicationId;
+    private final String company;
+    private final String position;
+    private final Application.Status status;
+    private final boolean replayed;
+
+    public ApplicationSubmissionResult(Outcome outcome, Long applicationId, String company, String position,
+                                       Application.Status status, boolean replayed) {
+        this.outcome = outcome;
+        this.applicationId = applicationId;
+        this.company = company;
+        this.position = position;
+        this.status = status;
+        this.replayed = replayed;
+    }
+
+    public static ApplicationSubmissionResult keyReused() {
+        return new ApplicationSubmissionResult(Outcome.KEY_REUSED, null, null, null, null, false);
+    }
+
+    public Outcome getOutcome() { return outcome; }
+
+    public Long getApplicationId() { return applicationId; }
+
+    public String getCompany() { return company; }
+
+    public String getPosition() { return position; }
+
+    public Application.Status getStatus() { return status; }
+
+    // Idempotency-Key 재시도에 저장된 결과를 다시 돌려준 경우
+    public boolean isReplayed() { return replayed; }
+}
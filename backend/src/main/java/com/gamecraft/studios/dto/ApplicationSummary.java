@@ -0,0 +1,59 @@
+package com.gamecraft.studios.dto;
+
+import com.gamecraft.studios.entity.Application;
+
+import java.time.LocalDateTime;
+
+/**
+ * 지원서 목록용 요약 (JPQL 생성자 프로젝션)
+ * - 지원자와 한 번의 JOIN으로 조회, 목록에 필요 없는 TEXT 컬럼(자기소개서, 관리자 메모)은 제외
+ */
+public class ApplicationSummary {
+
+    private final Long id;
+    private final String applicantName;
+    private final String applicantEmail;
+    private final String company;
+    private final String position;
+    private final Application.Status status;
+    private final Application.ExperienceLevel experienceLevel;
+    private final Application.JobType jobType;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime updatedAt;
+
+    public ApplicationSummary(Long id, String applicantName, String applicantEmail,
+                              String company, String position, Application.Status status,
+                              Application.ExperienceLevel experienceLevel, Application.JobType jobType,
+                              LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.applicantName = applicantName;
+        this.applicantEmail = applicantEmail;
+        this.company = company;
+        this.position = position;
+        this.status = status;
+        this.experienceLevel = experienceLevel;
+        this.jobType = jobType;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    public Long getId() { return id; }
+
+    public String getApplicantName() { return applicantName; }
+
+    public String getApplicantEmail() { return applicantEmail; }
+
+    public String getCompany() { return company; }
+
+    public String getPosition() { return position; }
+
+    public Application.Status getStatus() { return status; }
+
+    public Application.ExperienceLevel getExperienceLevel() { return experienceLevel; }
+
+    public Application.JobType getJobType() { return jobType; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,47 @@
+package com.gamecraft.studios.dto;
+
+import com.gamecraft.studios.entity.Application;
+
+import java.util.List;
+
+// 지원서 상태 일괄 변경 결과 (지원서별 처리 결과 포함)
+public class BulkStatusUpdateResult {
+
+    public enum Outcome {
+        UPDATED, UNCHANGED, NOT_FOUND, NOT_ALLOWED
+    }
+
+    private final Application.Status targetStatus;
+    private final List<Item> items;
+
+    public BulkStatusUpdateResult(Application.Status targetStatus, List<Item> items) {
+        this.targetStatus = targetStatus;
+        this.items = List.copyOf(items);
+    }
+
+    public long count(Outcome outcome) {
+        return items.stream().filter(item -> item.getOutcome() == outcome).count();
+    }
+
+    public Application.Status getTargetStatus() { return targetStatus; }
+
+    public List<Item> getItems() { return items; }
+
+    public static class Item {
+        private final Long applicationId;
+        private final Outcome outcome;
+        private final Application.Status previousStatus;
+
+        public Item(Long applicationId, Outcome outcome, Application.Status previousStatus) {
+            this.applicationId = applicationId;
+            this.outcome = outcome;
+            this.previousStatus = previousStatus;
+        }
+
+        public Long getApplicationId() { return applicationId; }
+
+        public Outcome getOutcome() { return outcome; }
+
+        public Application.Status getPreviousStatus() { return previousStatus; }
+    }
+}
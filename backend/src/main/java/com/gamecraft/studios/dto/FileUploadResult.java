@@ -0,0 +1,37 @@
+package com.gamecraft.studios.dto;
+
+import com.gamecraft.studios.util.FileUtil;
+
+// 첨부 파일 업로드 결과 (내용 기준 저장 파일 + 지원서에 표시할 원본 파일명)
+public class FileUploadResult {
+
+    private final Long fileId;
+    private final String sha256;
+    private final String originalFilename;
+    private final FileUtil.FileType type;
+    private final long size;
+    private final boolean deduplicated;
+
+    public FileUploadResult(Long fileId, String sha256, String originalFilename, FileUtil.FileType type,
+                            long size, boolean deduplicated) {
+        this.fileId = fileId;
+        this.sha256 = sha256;
+        this.originalFilename = originalFilename;
+        this.type = type;
+        this.size = size;
+        this.deduplicated = deduplicated;
+    }
+
+    public Long getFileId() { return fileId; }
+
+    public String getSha256() { return sha256; }
+
+    public String getOriginalFilename() { return originalFilename; }
+
+    public FileUtil.FileType getType() { return type; }
+
+    public long getSize() { return size; }
+
+    // 같은 내용의 파일이 이미 저장돼 있어서 새로 저장하지 않은 경우
+    public boolean isDeduplicated() { return deduplicated; }
+}
@@ -1,5 +1,6 @@
 package com.gamecraft.studios.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.util.List;
 
@@ -72,6 +73,16 @@ public class GitHubApiDto {
         private int repositoryCount;
         private String description;
 
+        // 인기도 증감률 (%) - DB 이력이 있을 때만 채워짐
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Double weeklyGrowthRate;
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        private Double monthlyGrowthRate;
+
+        // 기본 생성자 (Redis 공유 스냅샷 역직렬화용)
+        public TechStack() {}
+
         public TechStack(String name, String category, long popularityScore, int repositoryCount) {
             this.name = name;
             this.category = category;
@@ -94,5 +105,11 @@ public class GitHubApiDto {
 
         public String getDescription() { return description; }
         public void setDescription(String description) { this.description = description; }
+
+        public Double getWeeklyGrowthRate() { return weeklyGrowthRate; }
+        public void setWeeklyGrowthRate(Double weeklyGrowthRate) { this.weeklyGrowthRate = weeklyGrowthRate; }
+
+        public Double getMonthlyGrowthRate() { return monthlyGrowthRate; }
+        public void setMonthlyGrowthRate(Double monthlyGrowthRate) { this.monthlyGrowthRate = monthlyGrowthRate; }
     }
 }
\ No newline at end of file
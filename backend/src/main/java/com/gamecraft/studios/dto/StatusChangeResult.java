@@ -0,0 +1,44 @@
+package com.gamecraft.studios.dto;
+
+import com.gamecraft.studios.entity.Application;
+
+import java.time.LocalDateTime;
+
+// 지원서 상태 변경 결과 (단건)
+public class StatusChangeResult {
+
+    public enum Outcome {
+        UPDATED,
+        UNCHANGED,      // 이미 같은 상태 (메모만 갱신됐을 수 있음)
+        NOT_FOUND,
+        CONFLICT,       // 기대한 상태가 아님 - 다른 관리자가 먼저 변경
+        NOT_ALLOWED     // 허용하지 않는 전이
+    }
+
+    private final Outcome outcome;
+    private final Long applicationId;
+    private final Application.Status previousStatus;
+    private final Application.Status currentStatus;
+    private final LocalDateTime updatedAt;
+
+    public StatusChangeResult(Outcome outcome, Long applicationId, Application.Status previousStatus,
+                              Application.Status currentStatus, LocalDateTime updatedAt) {
+        this.outcome = outcome;
+        this.applicationId = applicationId;
+        this.previousStatus = previousStatus;
+        this.currentStatus = currentStatus;
+        this.updatedAt = updatedAt;
+    }
+
+    public Outcome getOutcome() { return outcome; }
+
+    public Long getApplicationId() { return applicationId; }
+
+    // 변경 전 상태 (CONFLICT/NOT_ALLOWED면 DB의 실제 상태)
+    public Application.Status getPreviousStatus() { return previousStatus; }
+
+    // 처리 후 실제 상태 (NOT_FOUND면 null)
+    public Application.Status getCurrentStatus() { return currentStatus; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,59 @@
+package com.gamecraft.studios.dto;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+// 메모리에 보관되는 기술 스택 스냅샷 (불변)
+// fetchedAt: 마지막 갱신 시각 (갱신 주기 판단용)
+// carriedOver: 일부 검색 실패로 이전 스냅샷에서 가져온 항목 → 그 값을 실제로 조회한 시각
+public class TechStackSnapshot {
+
+    private final List<GitHubApiDto.TechStack> techStacks;
+    private final Instant fetchedAt;
+    private final Map<String, Instant> carriedOver;
+
+    public TechStackSnapshot(List<GitHubApiDto.TechStack> techStacks, Instant fetchedAt) {
+        this(techStacks, fetchedAt, Map.of());
+    }
+
+    public TechStackSnapshot(List<GitHubApiDto.TechStack> techStacks, Instant fetchedAt,
+                             Map<String, Instant> carriedOver) {
+        this.techStacks = List.copyOf(techStacks);
+        this.fetchedAt = fetchedAt;
+        this.carriedOver = Map.copyOf(carriedOver);
+    }
+
+    public List<GitHubApiDto.TechStack> getTechStacks() { return techStacks; }
+
+    public Instant getFetchedAt() { return fetchedAt; }
+
+    public Map<String, Instant> getCarriedOver() { return Collections.unmodifiableMap(carriedOver); }
+
+    // 이전 스냅샷 값으로 채운 항목이 있으면 true
+    public boolean isPartial() { return !carriedOver.isEmpty(); }
+
+    // 항목 값을 실제로 조회한 시각
+    public Instant getFetchedAt(String name) {
+        return carriedOver.getOrDefault(name, fetchedAt);
+    }
+
+    // 가장 오래된 항목의 조회 시각 (부분 갱신이면 fetchedAt보다 이전)
+    public Instant getOldestFetchedAt() {
+        return carriedOver.values().stream()
+                .min(Instant::compareTo)
+                .filter(oldest -> oldest.isBefore(fetchedAt))
+                .orElse(fetchedAt);
+    }
+
+    // 가장 오래된 항목 기준 데이터 나이
+    public long getAgeSeconds() {
+        return Duration.between(getOldestFetchedAt(), Instant.now()).getSeconds();
+    }
+
+    public boolean isOlderThan(Duration maxAge) {
+        return fetchedAt.plus(maxAge).isBefore(Instant.now());
+    }
+}
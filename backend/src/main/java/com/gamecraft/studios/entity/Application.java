@@ -2,16 +2,30 @@ package com.gamecraft.studios.entity;
 
 import jakarta.persistence.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
-
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 같은 사용자가 같은 회사/포지션에 중복 지원 불가 (user_id로 시작하는 유니크 인덱스가 사용자별 조회 인덱스 역할도 함)
 @Entity
-@Table(name = "applications", indexes = {
-        @Index(name = "idx_application_user", columnList = "user_id"),
-        @Index(name = "idx_application_company", columnList = "company"),
-        @Index(name = "idx_application_status", columnList = "status")
-})
+@Table(name = "applications",
+        uniqueConstraints = @UniqueConstraint(name = "uk_application_user_company_position",
+                columnNames = {"user_id", "company", "position"}),
+        indexes = {
+                @Index(name = "idx_application_company", columnList = "company"),
+                @Index(name = "idx_application_status", columnList = "status"),
+                @Index(name = "idx_application_created_id", columnList = "createdAt DESC, id DESC"),
+                @Index(name = "idx_application_media_job", columnList = "mediaJobId")
+        })
 public class Application {
 
     @Id
@@ -38,9 +52,11 @@ public class Application {
     @Column(nullable = false)
     private JobType jobType;
 
-    // PostgreSQL JSON 타입 활용 (MySQL과 다른 점!)
+    // PostgreSQL JSON 타입 활용 (MySQL과 다른 점!) - JSON 배열로 저장: ["React", "Spring Boot", "PostgreSQL"]
+    // 기술별 검색은 GIN(jsonb_path_ops) 인덱스 사용 - schema.sql 참고
+    @JdbcTypeCode(SqlTypes.JSON)
     @Column(columnDefinition = "jsonb")
-    private String skills; // JSON 형태: ["React", "Spring Boot", "PostgreSQL"]
+    private List<String> skills = new ArrayList<>();
 
     // 긴 텍스트는 TEXT 타입 사용
     @Column(columnDefinition = "TEXT")
@@ -52,11 +68,19 @@ public class Application {
     private String workLocation;
     private String referenceLink;
 
-    // 파일 업로드
+    // 파일 업로드 - 파일 내용은 stored_files (같은 파일은 한 번만 저장), 파일명은 지원서마다 올린 이름
     private String resumeFileName;
     private String resumeFilePath;
+    private Long resumeFileId;
     private String portfolioFileName;
     private String portfolioFilePath;
+    private Long portfolioFileId;
+
+    // 포트폴리오 미디어 처리 (썸네일/미리보기/변환본) - 현재 포트폴리오 파일의 작업만 결과를 반영
+    private Long mediaJobId;
+
+    @Enumerated(EnumType.STRING)
+    private MediaStatus mediaStatus;
 
     // 상태 관리
     @Enumerated(EnumType.STRING)
@@ -90,6 +114,38 @@ public class Application {
         public String getDescription() {
             return description;
         }
+
+        // 허용 전이: 제출 → 검토 → 면접 → 합격/불합격, 불합격은 재검토 가능, 합격은 최종
+        public Set<Status> nextStatuses() {
+            return switch (this) {
+                case SUBMITTED -> EnumSet.of(REVIEWING, REJECTED);
+                case REVIEWING -> EnumSet.of(INTERVIEW, ACCEPTED, REJECTED);
+                case INTERVIEW -> EnumSet.of(ACCEPTED, REJECTED);
+                case ACCEPTED -> EnumSet.noneOf(Status.class);
+                case REJECTED -> EnumSet.of(REVIEWING);
+            };
+        }
+
+        public boolean canTransitionTo(Status next) {
+            return nextStatuses().contains(next);
+        }
+    }
+
+    public enum MediaStatus {
+        PENDING("처리대기"),
+        PROCESSING("처리중"),
+        READY("완료"),
+        FAILED("실패");
+
+        private final String description;
+
+        MediaStatus(String description) {
+            this.description = description;
+        }
+
+        public String getDescription() {
+            return description;
+        }
     }
 
     public enum ExperienceLevel {
@@ -157,8 +213,16 @@ public class Application {
     public JobType getJobType() { return jobType; }
     public void setJobType(JobType jobType) { this.jobType = jobType; }
 
-    public String getSkills() { return skills; }
-    public void setSkills(String skills) { this.skills = skills; }
+    public List<String> getSkills() { return skills; }
+
+    // 앞뒤 공백 제거, 빈 값/중복 제거 (입력 순서 유지) - 기술명 일치 검색이 되도록
+    public void setSkills(List<String> skills) {
+        this.skills = skills == null ? new ArrayList<>() : new ArrayList<>(skills.stream()
+                .filter(Objects::nonNull)
+                .map(String::trim)
+                .filter(skill -> !skill.isEmpty())
+                .collect(Collectors.toCollection(LinkedHashSet::new)));
+    }
 
     public String getCoverLetter() { return coverLetter; }
     public void setCoverLetter(String coverLetter) { this.coverLetter = coverLetter; }
@@ -175,6 +239,30 @@ public class Application {
     public String getReferenceLink() { return referenceLink; }
     public void setReferenceLink(String referenceLink) { this.referenceLink = referenceLink; }
 
+    public String getResumeFileName() { return resumeFileName; }
+    public void setResumeFileName(String resumeFileName) { this.resumeFileName = resumeFileName; }
+
+    public String getResumeFilePath() { return resumeFilePath; }
+    public void setResumeFilePath(String resumeFilePath) { this.resumeFilePath = resumeFilePath; }
+
+    public Long getResumeFileId() { return resumeFileId; }
+    public void setResumeFileId(Long resumeFileId) { this.resumeFileId = resumeFileId; }
+
+    public String getPortfolioFileName() { return portfolioFileName; }
+    public void setPortfolioFileName(String portfolioFileName) { this.portfolioFileName = portfolioFileName; }
+
+    public String getPortfolioFilePath() { return portfolioFilePath; }
+    public void setPortfolioFilePath(String portfolioFilePath) { this.portfolioFilePath = portfolioFilePath; }
+
+    public Long getPortfolioFileId() { return portfolioFileId; }
+    public void setPortfolioFileId(Long portfolioFileId) { this.portfolioFileId = portfolioFileId; }
+
+    public Long getMediaJobId() { return mediaJobId; }
+    public void setMediaJobId(Long mediaJobId) { this.mediaJobId = mediaJobId; }
+
+    public MediaStatus getMediaStatus() { return mediaStatus; }
+    public void setMediaStatus(MediaStatus mediaStatus) { this.mediaStatus = mediaStatus; }
+
     public Status getStatus() { return status; }
     public void setStatus(Status status) { this.status = status; }
 
@@ -0,0 +1,45 @@
+package com.gamecraft.studios.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDate;
+
+// 일별 지원서 집계 (제출일 × 회사 × 현재 상태별 건수) - 대시보드 차트는 원본 테이블 대신 이 테이블을 읽음
+@Entity
+@Table(name = "application_daily_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_application_daily_stat",
+                columnNames = {"stat_date", "company", "status"}))
+public class ApplicationDailyStat {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 지원서 제출일
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(nullable = false)
+    private String company;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Application.Status status;
+
+    @Column(nullable = false)
+    private long applicationCount;
+
+    // 기본 생성자
+    public ApplicationDailyStat() {}
+
+    // Getters
+    public Long getId() { return id; }
+
+    public LocalDate getStatDate() { return statDate; }
+
+    public String getCompany() { return company; }
+
+    public Application.Status getStatus() { return status; }
+
+    public long getApplicationCount() { return applicationCount; }
+}
@@ -0,0 +1,54 @@
+package com.gamecraft.studios.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// 지원서 제출 Idempotency-Key 기록 (사용자별 키 → 처리 결과) - 클라이언트 재시도 시 같은 결과를 다시 응답
+@Entity
+@Table(name = "idempotency_keys",
+        uniqueConstraints = @UniqueConstraint(name = "uk_idempotency_key_user_key",
+                columnNames = {"user_id", "idempotency_key"}),
+        indexes = @Index(name = "idx_idempotency_key_created", columnList = "created_at"))
+public class IdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    // 요청 본문 SHA-256 - 같은 키로 다른 내용을 보내면 거절
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    // 처리 결과 (키를 선점한 트랜잭션 안에서 채워짐)
+    private Long applicationId;
+
+    private Boolean duplicate;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 기본 생성자
+    public IdempotencyKey() {}
+
+    // Getters
+    public Long getId() { return id; }
+
+    public Long getUserId() { return userId; }
+
+    public String getIdempotencyKey() { return idempotencyKey; }
+
+    public String getRequestHash() { return requestHash; }
+
+    public Long getApplicationId() { return applicationId; }
+
+    public Boolean getDuplicate() { return duplicate; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,90 @@
+package com.gamecraft.studios.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// 포트폴리오 미디어 처리 작업 (썸네일/미리보기/변환본 생성) - 작업 큐 역할, 워커가 SKIP LOCKED로 가져감
+// RUNNING 작업은 leaseUntil까지만 유효 → 처리 중 서버가 죽으면 시간이 지난 뒤 다른 워커가 다시 가져감
+@Entity
+@Table(name = "media_jobs",
+        indexes = {
+                @Index(name = "idx_media_job_status_available", columnList = "status, available_at"),
+                @Index(name = "idx_media_job_application", columnList = "application_id")
+        })
+public class MediaJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "application_id", nullable = false)
+    private Long applicationId;
+
+    // 원본 파일 (stored_files) - 결과물은 원본 SHA-256 기준으로 저장되므로 같은 내용은 한 번만 처리
+    @Column(name = "stored_file_id", nullable = false)
+    private Long storedFileId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.PENDING;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    // 이 시각 이후에 가져갈 수 있음 (실패 후 재시도 대기)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    public enum Status {
+        PENDING,
+        RUNNING,
+        DONE,
+        FAILED,
+        CANCELLED   // 처리 전에 다른 파일로 교체됨
+    }
+
+    // 기본 생성자
+    public MediaJob() {}
+
+    public MediaJob(Long applicationId, Long storedFileId, LocalDateTime now) {
+        this.applicationId = applicationId;
+        this.storedFileId = storedFileId;
+        this.availableAt = now;
+        this.createdAt = now;
+        this.updatedAt = now;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+
+    public Long getApplicationId() { return applicationId; }
+
+    public Long getStoredFileId() { return storedFileId; }
+
+    public Status getStatus() { return status; }
+
+    public int getAttempts() { return attempts; }
+
+    public String getLastError() { return lastError; }
+
+    public LocalDateTime getAvailableAt() { return availableAt; }
+
+    public LocalDateTime getLeaseUntil() { return leaseUntil; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,63 @@
+package com.gamecraft.studios.entity;
+
+import com.gamecraft.studios.util.FileUtil;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// 업로드 파일 내용 (SHA-256 기준 1건) - 같은 파일을 여러 지원서에 올려도 디스크에는 한 번만 저장
+// refCount: 이 파일을 이력서/포트폴리오로 쓰는 지원서 수, 0이 된 뒤 유예 시간이 지나면 정리 작업이 삭제
+@Entity
+@Table(name = "stored_files",
+        uniqueConstraints = @UniqueConstraint(name = "uk_stored_file_sha256", columnNames = "sha256"),
+        indexes = @Index(name = "idx_stored_file_unreferenced", columnList = "ref_count, updated_at"))
+public class StoredFile {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, length = 64)
+    private String sha256;
+
+    // 저장소 기준 상대 경로 (objects/ab/cd/{sha256})
+    @Column(nullable = false)
+    private String path;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private FileUtil.FileType contentType;
+
+    @Column(nullable = false)
+    private long size;
+
+    @Column(name = "ref_count", nullable = false)
+    private int refCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 마지막으로 참조가 늘거나 줄어든 시각 (정리 유예 기준)
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    // 기본 생성자
+    public StoredFile() {}
+
+    // Getters
+    public Long getId() { return id; }
+
+    public String getSha256() { return sha256; }
+
+    public String getPath() { return path; }
+
+    public FileUtil.FileType getContentType() { return contentType; }
+
+    public long getSize() { return size; }
+
+    public int getRefCount() { return refCount; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public LocalDateTime getUpdatedAt() { return updatedAt; }
+}
@@ -0,0 +1,73 @@
+package com.gamecraft.studios.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+// 기술 스택 인기도 관측값 (값이 바뀐 시점에만 기록되는 시계열)
+@Entity
+@Table(name = "tech_stack_observations", indexes = {
+        @Index(name = "idx_tech_stack_obs_name_time", columnList = "name, observedAt DESC"),
+        @Index(name = "idx_tech_stack_obs_time", columnList = "observedAt")
+})
+public class TechStackObservation {
+
+    // IDENTITY 대신 시퀀스를 써야 Hibernate JDBC 배치 insert가 동작함
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tech_stack_observation_seq")
+    @SequenceGenerator(name = "tech_stack_observation_seq", sequenceName = "tech_stack_observation_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String name;
+
+    @Column(nullable = false, length = 50)
+    private String category;
+
+    @Column(nullable = false)
+    private long popularityScore;
+
+    @Column(nullable = false)
+    private int repositoryCount;
+
+    @Column(length = 500)
+    private String description;
+
+    @Column(nullable = false)
+    private LocalDateTime observedAt;
+
+    // 기본 생성자
+    public TechStackObservation() {}
+
+    // 생성자
+    public TechStackObservation(String name, String category, long popularityScore,
+                                int repositoryCount, String description, LocalDateTime observedAt) {
+        this.name = name;
+        this.category = category;
+        this.popularityScore = popularityScore;
+        this.repositoryCount = repositoryCount;
+        this.description = description;
+        this.observedAt = observedAt;
+    }
+
+    // Getters & Setters
+    public Long getId() { return id; }
+
+    public String getName() { return name; }
+    public void setName(String name) { this.name = name; }
+
+    public String getCategory() { return category; }
+    public void setCategory(String category) { this.category = category; }
+
+    public long getPopularityScore() { return popularityScore; }
+    public void setPopularityScore(long popularityScore) { this.popularityScore = popularityScore; }
+
+    public int getRepositoryCount() { return repositoryCount; }
+    public void setRepositoryCount(int repositoryCount) { this.repositoryCount = repositoryCount; }
+
+    public String getDescription() { return description; }
+    public void setDescription(String description) { this.description = description; }
+
+    public LocalDateTime getObservedAt() { return observedAt; }
+    public void setObservedAt(LocalDateTime observedAt) { this.observedAt = observedAt; }
+}
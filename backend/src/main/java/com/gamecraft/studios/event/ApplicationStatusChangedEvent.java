@@ -0,0 +1,36 @@
+package com.gamecraft.studios.event;
+
+import com.gamecraft.studios.entity.Application;
+
+import java.time.LocalDateTime;
+
+// 지원서 상태 변경 이벤트 (이전 상태 → 새 상태)
+public class ApplicationStatusChangedEvent {
+
+    private final Long applicationId;
+    private final String company;
+    private final Application.Status from;
+    private final Application.Status to;
+    private final LocalDateTime createdAt;
+
+    public ApplicationStatusChangedEvent(Long applicationId, String company,
+                                         Application.Status from, Application.Status to,
+                                         LocalDateTime createdAt) {
+        this.applicationId = applicationId;
+        this.company = company;
+        this.from = from;
+        this.to = to;
+        this.createdAt = createdAt;
+    }
+
+    public Long getApplicationId() { return applicationId; }
+
+    public String getCompany() { return company; }
+
+    public Application.Status getFrom() { return from; }
+
+    public Application.Status getTo() { return to; }
+
+    // 지원서 제출 시각 (일별 통계 집계 기준)
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
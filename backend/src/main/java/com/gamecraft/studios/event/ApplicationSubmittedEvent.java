@@ -0,0 +1,35 @@
+package com.gamecraft.studios.event;
+
+import com.gamecraft.studios.entity.Application;
+
+import java.time.LocalDateTime;
+
+// 지원서 제출 이벤트 (커밋 후 통계/알림 갱신용)
+public class ApplicationSubmittedEvent {
+
+    private final Long applicationId;
+    private final String company;
+    private final Application.Status status;
+    private final LocalDateTime createdAt;
+
+    public ApplicationSubmittedEvent(Long applicationId, String company,
+                                     Application.Status status, LocalDateTime createdAt) {
+        this.applicationId = applicationId;
+        this.company = company;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public static ApplicationSubmittedEvent of(Application application) {
+        return new ApplicationSubmittedEvent(application.getId(), application.getCompany(),
+                application.getStatus(), application.getCreatedAt());
+    }
+
+    public Long getApplicationId() { return applicationId; }
+
+    public String getCompany() { return company; }
+
+    public Application.Status getStatus() { return status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
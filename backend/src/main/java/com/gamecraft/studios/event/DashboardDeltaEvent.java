@@ -0,0 +1,43 @@
+package com.gamecraft.studios.event;
+
+import com.gamecraft.studios.entity.Application;
+
+import java.util.Map;
+
+// 대시보드 카운터 변화량 (실시간 대시보드 전송용) - reset이면 카운터가 통째로 바뀌어 전체 스냅샷이 필요함
+public class DashboardDeltaEvent {
+
+    private final long totalApplications;
+    private final Map<Application.Status, Long> statusStats;
+    private final Map<String, Long> companyStats;
+    private final long recentApplicationsCount;
+    private final boolean reset;
+
+    public DashboardDeltaEvent(long totalApplications, Map<Application.Status, Long> statusStats,
+                               Map<String, Long> companyStats, long recentApplicationsCount) {
+        this(totalApplications, statusStats, companyStats, recentApplicationsCount, false);
+    }
+
+    private DashboardDeltaEvent(long totalApplications, Map<Application.Status, Long> statusStats,
+                                Map<String, Long> companyStats, long recentApplicationsCount, boolean reset) {
+        this.totalApplications = totalApplications;
+        this.statusStats = statusStats;
+        this.companyStats = companyStats;
+        this.recentApplicationsCount = recentApplicationsCount;
+        this.reset = reset;
+    }
+
+    public static DashboardDeltaEvent reset() {
+        return new DashboardDeltaEvent(0, Map.of(), Map.of(), 0, true);
+    }
+
+    public long getTotalApplications() { return totalApplications; }
+
+    public Map<Application.Status, Long> getStatusStats() { return statusStats; }
+
+    public Map<String, Long> getCompanyStats() { return companyStats; }
+
+    public long getRecentApplicationsCount() { return recentApplicationsCount; }
+
+    public boolean isReset() { return reset; }
+}
@@ -0,0 +1,60 @@
+package com.gamecraft.studios.repository;
+
+import com.gamecraft.studios.entity.ApplicationDailyStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface ApplicationDailyStatRepository extends JpaRepository<ApplicationDailyStat, Long> {
+
+    // 집계 행 증감 (없으면 생성) - 지원서 제출/상태 변경과 같은 트랜잭션에서 호출
+    @Modifying
+    @Query(value = "INSERT INTO application_daily_stats (stat_date, company, status, application_count) " +
+            "VALUES (:statDate, :company, :status, :delta) " +
+            "ON CONFLICT (stat_date, company, status) " +
+            "DO UPDATE SET application_count = application_daily_stats.application_count + EXCLUDED.application_count",
+            nativeQuery = true)
+    int addCount(@Param("statDate") LocalDate statDate,
+                 @Param("company") String company,
+                 @Param("status") String status,
+                 @Param("delta") long delta);
+
+    // 재집계 전 기간 삭제
+    @Modifying
+    @Query("DELETE FROM ApplicationDailyStat s WHERE s.statDate >= :from AND s.statDate < :to")
+    int deleteRange(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    // 원본 테이블에서 기간 재집계 ([from, to) 제출분)
+    @Modifying
+    @Query(value = "INSERT INTO application_daily_stats (stat_date, company, status, application_count) " +
+            "SELECT CAST(a.created_at AS date), a.company, a.status, COUNT(*) " +
+            "FROM applications a " +
+            "WHERE a.created_at >= :from AND a.created_at < :to " +
+            "GROUP BY CAST(a.created_at AS date), a.company, a.status",
+            nativeQuery = true)
+    int insertAggregatedRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // 재집계 중에는 증분 갱신을 잠시 막음 (증분 갱신의 ROW EXCLUSIVE 잠금과 충돌, 조회는 허용)
+    @Modifying
+    @Query(value = "LOCK TABLE application_daily_stats IN SHARE ROW EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    // 상태 × 회사별 전체 건수
+    @Query("SELECT s.status, s.company, SUM(s.applicationCount) FROM ApplicationDailyStat s " +
+            "GROUP BY s.status, s.company")
+    List<Object[]> sumGroupByStatusAndCompany();
+
+    // 기간 내 일별 × 상태별 건수 (날짜 오름차순)
+    @Query("SELECT s.statDate, s.status, SUM(s.applicationCount) FROM ApplicationDailyStat s " +
+            "WHERE s.statDate BETWEEN :from AND :to " +
+            "GROUP BY s.statDate, s.status " +
+            "ORDER BY s.statDate")
+    List<Object[]> sumGroupByDayAndStatus(@Param("from") LocalDate from, @Param("to") LocalDate to);
+}
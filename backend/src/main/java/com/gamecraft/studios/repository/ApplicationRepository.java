@@ -1,16 +1,30 @@
 package com.gamecraft.studios.repository;
 
+import com.gamecraft.studios.dto.ApplicationSearchHit;
+import com.gamecraft.studios.dto.ApplicationStatusChange;
+import com.gamecraft.studios.dto.ApplicationStatusRow;
+import com.gamecraft.studios.dto.ApplicationSummary;
 import com.gamecraft.studios.entity.Application;
 import com.gamecraft.studios.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
@@ -43,41 +57,206 @@ public interface ApplicationRepository extends JpaRepository<Application, Long>
     @Query("SELECT COUNT(a) FROM Application a WHERE a.createdAt BETWEEN :start AND :end")
     long countApplicationsBetween(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
 
-    // 사용자의 특정 회사 지원 여부 확인
-    boolean existsByUserAndCompany(User user, String company);
-
     // 전체 지원서 수 조회
     @Query("SELECT COUNT(a) FROM Application a")
     long countAllApplications();
 
-    // ⭐ 오늘 접수된 지원서 수 (가장 간단한 방법)
-    @Query("SELECT COUNT(a) FROM Application a WHERE a.createdAt >= CURRENT_DATE")
-    long countTodayApplications();
+    // 가장 오래된 지원서 제출 시각 (일별 집계 백필 시작점)
+    @Query("SELECT MIN(a.createdAt) FROM Application a")
+    LocalDateTime findEarliestCreatedAt();
 
     // 특정 사용자의 지원서 수
     @Query("SELECT COUNT(a) FROM Application a WHERE a.user = :user")
     long countByUser(@Param("user") User user);
 
-    // 상태 및 회사별 필터링 (관리자 대시보드용)
-    @Query("SELECT a FROM Application a WHERE " +
+    // 관리자 목록 첫 페이지 (키셋 페이지네이션, (created_at, id) 인덱스 역순 스캔)
+    // 지원자까지 JOIN 한 번으로 목록 컬럼만 조회 (행마다 지원자 SELECT 없음)
+    @Query("SELECT new com.gamecraft.studios.dto.ApplicationSummary(" +
+            "a.id, u.name, u.email, a.company, a.position, a.status, " +
+            "a.experienceLevel, a.jobType, a.createdAt, a.updatedAt) " +
+            "FROM Application a JOIN a.user u WHERE " +
+            "(:status IS NULL OR a.status = :status) AND " +
+            "(:companyPattern IS NULL OR LOWER(a.company) LIKE :companyPattern ESCAPE '\\') " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationSummary> findPageForAdmin(
+            @Param("status") Application.Status status,
+            @Param("companyPattern") String companyPattern,
+            Limit limit
+    );
+
+    // 관리자 목록 다음 페이지 - 커서(마지막 행) 이후만 조회하므로 페이지 위치와 무관하게 같은 비용
+    @Query("SELECT new com.gamecraft.studios.dto.ApplicationSummary(" +
+            "a.id, u.name, u.email, a.company, a.position, a.status, " +
+            "a.experienceLevel, a.jobType, a.createdAt, a.updatedAt) " +
+            "FROM Application a JOIN a.user u WHERE " +
+            "(:status IS NULL OR a.status = :status) AND " +
+            "(:companyPattern IS NULL OR LOWER(a.company) LIKE :companyPattern ESCAPE '\\') AND " +
+            "(a.createdAt < :cursorCreatedAt OR (a.createdAt = :cursorCreatedAt AND a.id < :cursorId)) " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationSummary> findPageForAdminAfter(
+            @Param("status") Application.Status status,
+            @Param("companyPattern") String companyPattern,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorId") Long cursorId,
+            Limit limit
+    );
+
+    // 관리자 목록 필터 기준 전체 건수 (첫 페이지에서만 사용)
+    @Query("SELECT COUNT(a) FROM Application a WHERE " +
             "(:status IS NULL OR a.status = :status) AND " +
-            "(:company IS NULL OR a.company LIKE %:company%) " +
-            "ORDER BY a.createdAt DESC")
-    Page<Application> findByStatusAndCompanyWithPaging(
+            "(:companyPattern IS NULL OR LOWER(a.company) LIKE :companyPattern ESCAPE '\\')")
+    long countForAdmin(
             @Param("status") Application.Status status,
-            @Param("company") String company,
-            Pageable pageable
+            @Param("companyPattern") String companyPattern
     );
 
-    // 지원자 이름으로 검색 (관리자용)
-    @Query("SELECT a FROM Application a WHERE a.user.name LIKE %:name% ORDER BY a.createdAt DESC")
-    List<Application> findByApplicantNameContaining(@Param("name") String name);
-
-    // 최근 N일간의 지원서 통계 (PostgreSQL 완전 호환)
-    @Query("SELECT CAST(a.createdAt AS date) as date, COUNT(a) as count " +
-            "FROM Application a " +
-            "WHERE a.createdAt >= :since " +
-            "GROUP BY CAST(a.createdAt AS date) " +
-            "ORDER BY CAST(a.createdAt AS date) DESC")
-    List<Object[]> getDailyApplicationStats(@Param("since") LocalDateTime since);
+    // 관리자 목록과 같은 필터로 전체 내보내기 (전진 전용 커서, fetch size 단위로만 메모리에 적재)
+    // 트랜잭션 안에서 호출해야 PostgreSQL 드라이버가 fetch size를 적용함
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT new com.gamecraft.studios.dto.ApplicationSummary(" +
+            "a.id, u.name, u.email, a.company, a.position, a.status, " +
+            "a.experienceLevel, a.jobType, a.createdAt, a.updatedAt) " +
+            "FROM Application a JOIN a.user u WHERE " +
+            "(:status IS NULL OR a.status = :status) AND " +
+            "(:companyPattern IS NULL OR LOWER(a.company) LIKE :companyPattern ESCAPE '\\') " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    Stream<ApplicationSummary> streamForExport(
+            @Param("status") Application.Status status,
+            @Param("companyPattern") String companyPattern
+    );
+
+    // 조건부 상태 변경 - 기대한 상태일 때만 바꿈 (한 번의 UPDATE, 동시 변경에서 진 쪽은 빈 결과)
+    // adminNotes가 null이면 메모는 그대로 둠
+    @Query(value = "UPDATE applications SET status = :target, " +
+            "admin_notes = COALESCE(CAST(:adminNotes AS text), admin_notes), updated_at = :now " +
+            "WHERE id = :id AND status = :expected " +
+            "RETURNING id AS id, company AS company, created_at AS createdAt, updated_at AS updatedAt",
+            nativeQuery = true)
+    Optional<ApplicationStatusChange> compareAndSetStatus(@Param("id") Long id,
+                                                          @Param("expected") String expected,
+                                                          @Param("target") String target,
+                                                          @Param("adminNotes") String adminNotes,
+                                                          @Param("now") LocalDateTime now);
+
+    // 상태 일괄 변경 대상 잠금 조회 (SELECT ... FOR UPDATE, 같은 지원서 동시 변경 직렬화)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.gamecraft.studios.dto.ApplicationStatusRow(a.id, a.company, a.status, a.createdAt) " +
+            "FROM Application a WHERE a.id IN :ids ORDER BY a.id")
+    List<ApplicationStatusRow> findStatusRowsForUpdate(@Param("ids") Collection<Long> ids);
+
+    // 상태 일괄 변경 (벌크 UPDATE는 @UpdateTimestamp가 적용되지 않으므로 updatedAt 직접 지정)
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :status, a.updatedAt = :updatedAt WHERE a.id IN :ids")
+    int updateStatusByIds(@Param("ids") Collection<Long> ids,
+                          @Param("status") Application.Status status,
+                          @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 관리자 메모 일괄 변경
+    @Modifying
+    @Query("UPDATE Application a SET a.adminNotes = :adminNotes, a.updatedAt = :updatedAt WHERE a.id IN :ids")
+    int updateAdminNotesByIds(@Param("ids") Collection<Long> ids,
+                              @Param("adminNotes") String adminNotes,
+                              @Param("updatedAt") LocalDateTime updatedAt);
+
+    // 지원서 전문 검색 (search_vector GIN 인덱스, 가중치 rank 순) - schema.sql 참고
+    @Query(value = "SELECT a.id AS id, u.name AS applicantName, u.email AS applicantEmail, " +
+            "a.company AS company, a.position AS position, a.status AS status, a.created_at AS createdAt, " +
+            "CAST(ts_rank(a.search_vector, q) AS double precision) AS rank " +
+            "FROM applications a JOIN users u ON u.id = a.user_id, to_tsquery('simple', :tsQuery) q " +
+            "WHERE a.search_vector @@ q " +
+            "ORDER BY rank DESC, a.id DESC " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<ApplicationSearchHit> searchFullText(@Param("tsQuery") String tsQuery,
+                                              @Param("limit") int limit,
+                                              @Param("offset") int offset);
+
+    // 특정 기술을 가진 지원서 id (skills GIN 인덱스, 최신순) - skillJson: ["Java"] 형태의 JSON 배열
+    @Query(value = "SELECT a.id FROM applications a " +
+            "WHERE a.skills @> CAST(:skillJson AS jsonb) " +
+            "ORDER BY a.created_at DESC, a.id DESC " +
+            "LIMIT :limit OFFSET :offset", nativeQuery = true)
+    List<Long> findIdsBySkill(@Param("skillJson") String skillJson,
+                              @Param("limit") int limit,
+                              @Param("offset") int offset);
+
+    // 특정 기술을 가진 지원서 수 (skills GIN 인덱스)
+    @Query(value = "SELECT COUNT(*) FROM applications a WHERE a.skills @> CAST(:skillJson AS jsonb)",
+            nativeQuery = true)
+    long countBySkill(@Param("skillJson") String skillJson);
+
+    // 기술별 지원서 수 (많은 순) - 전체 스캔이므로 SkillStatisticsService 캐시를 통해서만 사용
+    @Query(value = "SELECT s.skill, COUNT(*) AS cnt " +
+            "FROM applications a CROSS JOIN LATERAL jsonb_array_elements_text(a.skills) AS s(skill) " +
+            "WHERE jsonb_typeof(a.skills) = 'array' " +
+            "GROUP BY s.skill " +
+            "ORDER BY cnt DESC, s.skill", nativeQuery = true)
+    List<Object[]> countGroupBySkill();
+
+    // id 목록으로 요약 조회 (지원자 JOIN 1번) - 순서는 호출 측에서 맞춤
+    @Query("SELECT new com.gamecraft.studios.dto.ApplicationSummary(" +
+            "a.id, u.name, u.email, a.company, a.position, a.status, " +
+            "a.experienceLevel, a.jobType, a.createdAt, a.updatedAt) " +
+            "FROM Application a JOIN a.user u WHERE a.id IN :ids")
+    List<ApplicationSummary> findSummariesByIds(@Param("ids") Collection<Long> ids);
+
+    // 지원서 제출 - (사용자, 회사, 포지션) 유니크 제약에 걸리면 아무것도 하지 않고 빈 결과 (예외/트랜잭션 중단 없음)
+    // 확인 후 INSERT 하는 방식과 달리 동시 제출에도 중복이 생기지 않음
+    @Query(value = "INSERT INTO applications (user_id, company, position, experience_level, job_type, skills, " +
+            "cover_letter, expected_salary, available_start_date, work_location, reference_link, " +
+            "status, created_at, updated_at) " +
+            "VALUES (:userId, :company, :position, :experienceLevel, :jobType, CAST(:skillsJson AS jsonb), " +
+            ":coverLetter, :expectedSalary, :availableStartDate, :workLocation, :referenceLink, " +
+            ":status, :createdAt, :createdAt) " +
+            "ON CONFLICT ON CONSTRAINT uk_application_user_company_position DO NOTHING " +
+            "RETURNING id", nativeQuery = true)
+    List<Long> insertIfAbsent(@Param("userId") Long userId,
+                              @Param("company") String company,
+                              @Param("position") String position,
+                              @Param("experienceLevel") String experienceLevel,
+                              @Param("jobType") String jobType,
+                              @Param("skillsJson") String skillsJson,
+                              @Param("coverLetter") String coverLetter,
+                              @Param("expectedSalary") String expectedSalary,
+                              @Param("availableStartDate") String availableStartDate,
+                              @Param("workLocation") String workLocation,
+                              @Param("referenceLink") String referenceLink,
+                              @Param("status") String status,
+                              @Param("createdAt") LocalDateTime createdAt);
+
+    // 이미 제출된 지원서 (유니크 제약 컬럼으로 조회)
+    @Query("SELECT new com.gamecraft.studios.dto.ApplicationStatusRow(a.id, a.company, a.status, a.createdAt) " +
+            "FROM Application a WHERE a.user.id = :userId AND a.company = :company AND a.position = :position")
+    Optional<ApplicationStatusRow> findStatusRowByUserAndPosition(@Param("userId") Long userId,
+                                                                 @Param("company") String company,
+                                                                 @Param("position") String position);
+
+    @Query("SELECT new com.gamecraft.studios.dto.ApplicationStatusRow(a.id, a.company, a.status, a.createdAt) " +
+            "FROM Application a WHERE a.id = :id")
+    Optional<ApplicationStatusRow> findStatusRowById(@Param("id") Long id);
+
+    // 내 지원서 목록 (유니크 인덱스의 user_id로 조회, 목록 컬럼만)
+    @Query("SELECT new com.gamecraft.studios.dto.ApplicationSummary(" +
+            "a.id, u.name, u.email, a.company, a.position, a.status, " +
+            "a.experienceLevel, a.jobType, a.createdAt, a.updatedAt) " +
+            "FROM Application a JOIN a.user u WHERE u.id = :userId " +
+            "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ApplicationSummary> findSummariesByUserId(@Param("userId") Long userId);
+
+    // 지원서 작성자 id (업로드/다운로드 권한 확인용)
+    @Query("SELECT a.user.id FROM Application a WHERE a.id = :id")
+    Optional<Long> findOwnerId(@Param("id") Long id);
+
+    // 미디어 처리 상태 반영 - 포트폴리오가 교체돼 작업 id가 바뀐 지원서는 그대로 둠
+    @Modifying
+    @Query("UPDATE Application a SET a.mediaStatus = :mediaStatus WHERE a.mediaJobId IN :jobIds")
+    int updateMediaStatusByJobIds(@Param("jobIds") Collection<Long> jobIds,
+                                  @Param("mediaStatus") Application.MediaStatus mediaStatus);
+
+    // 첨부 파일 교체용 잠금 조회 - 같은 지원서 파일 동시 교체 시 이전 파일 정리가 꼬이지 않도록 직렬화
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM Application a WHERE a.id = :id")
+    Optional<Application> findByIdForUpdate(@Param("id") Long id);
 }
\ No newline at end of file
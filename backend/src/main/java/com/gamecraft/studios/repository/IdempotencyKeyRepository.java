@@ -0,0 +1,41 @@
+package com.gamecraft.studios.repository;
+
+import com.gamecraft.studios.entity.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, Long> {
+
+    // 키 선점 (이미 있으면 0) - 같은 키로 동시에 들어온 요청은 먼저 선점한 트랜잭션이 끝날 때까지 대기
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (user_id, idempotency_key, request_hash, created_at) " +
+            "VALUES (:userId, :idempotencyKey, :requestHash, :createdAt) " +
+            "ON CONFLICT (user_id, idempotency_key) DO NOTHING", nativeQuery = true)
+    int claim(@Param("userId") Long userId,
+              @Param("idempotencyKey") String idempotencyKey,
+              @Param("requestHash") String requestHash,
+              @Param("createdAt") LocalDateTime createdAt);
+
+    // 처리 결과 기록 (선점한 트랜잭션 안에서)
+    @Modifying
+    @Query("UPDATE IdempotencyKey k SET k.applicationId = :applicationId, k.duplicate = :duplicate " +
+            "WHERE k.userId = :userId AND k.idempotencyKey = :idempotencyKey")
+    int complete(@Param("userId") Long userId,
+                 @Param("idempotencyKey") String idempotencyKey,
+                 @Param("applicationId") Long applicationId,
+                 @Param("duplicate") boolean duplicate);
+
+    Optional<IdempotencyKey> findByUserIdAndIdempotencyKey(Long userId, String idempotencyKey);
+
+    // 보관 기간 지난 키 삭제
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
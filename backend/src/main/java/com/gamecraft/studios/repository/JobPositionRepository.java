@@ -34,6 +34,13 @@ public interface JobPositionRepository extends JpaRepository<JobPosition, Long>
     @Query("SELECT j.experienceLevel, COUNT(j) FROM JobPosition j WHERE j.status = :status GROUP BY j.experienceLevel")
     List<Object[]> findJobCountByExperienceLevel(@Param("status") JobPosition.Status status);
 
+    // 지원서 폼 선택지 (회사 / 포지션 목록)
+    @Query("SELECT DISTINCT j.company FROM JobPosition j WHERE j.status = :status ORDER BY j.company")
+    List<String> findDistinctCompanies(@Param("status") JobPosition.Status status);
+
+    @Query("SELECT DISTINCT j.title FROM JobPosition j WHERE j.status = :status ORDER BY j.title")
+    List<String> findDistinctTitles(@Param("status") JobPosition.Status status);
+
     // 상태별 개수
     long countByStatus(JobPosition.Status status);
 
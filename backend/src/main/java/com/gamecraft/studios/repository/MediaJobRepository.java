@@ -0,0 +1,55 @@
+package com.gamecraft.studios.repository;
+
+import com.gamecraft.studios.entity.MediaJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MediaJobRepository extends JpaRepository<MediaJob, Long> {
+
+    // 실행할 작업 가져가기 (대기 중 + 임대 시간이 지난 실행 중 작업) - 다른 워커/노드가 잡은 행은 건너뜀
+    @Query(value = "UPDATE media_jobs SET status = 'RUNNING', attempts = attempts + 1, " +
+            "lease_until = :leaseUntil, updated_at = :now " +
+            "WHERE id IN (SELECT id FROM media_jobs " +
+            "WHERE (status = 'PENDING' AND available_at <= :now) " +
+            "OR (status = 'RUNNING' AND lease_until < :now AND attempts < :maxAttempts) " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+            "RETURNING id", nativeQuery = true)
+    List<Long> claim(@Param("now") LocalDateTime now,
+                     @Param("leaseUntil") LocalDateTime leaseUntil,
+                     @Param("maxAttempts") int maxAttempts,
+                     @Param("limit") int limit);
+
+    // 재시도 횟수를 다 쓴 채 임대 시간이 지난 작업 (처리 중 서버가 계속 죽는 경우) → 실패 처리
+    @Query(value = "UPDATE media_jobs SET status = 'FAILED', last_error = '처리 시간 초과', updated_at = :now " +
+            "WHERE status = 'RUNNING' AND lease_until < :now AND attempts >= :maxAttempts " +
+            "RETURNING id", nativeQuery = true)
+    List<Long> failAbandoned(@Param("now") LocalDateTime now, @Param("maxAttempts") int maxAttempts);
+
+    // 가져갈 때의 시도 횟수가 그대로인 실행 중 작업만 - 임대 시간이 지나 다시 가져간 작업이면 0건
+    @Modifying
+    @Query("UPDATE MediaJob j SET j.status = :status, j.lastError = :lastError, j.availableAt = :availableAt, " +
+            "j.leaseUntil = null, j.updatedAt = :now " +
+            "WHERE j.id = :id AND j.status = :running AND j.attempts = :attempts")
+    int finish(@Param("id") Long id,
+               @Param("attempts") int attempts,
+               @Param("running") MediaJob.Status running,
+               @Param("status") MediaJob.Status status,
+               @Param("lastError") String lastError,
+               @Param("availableAt") LocalDateTime availableAt,
+               @Param("now") LocalDateTime now);
+
+    // 포트폴리오가 바뀌면 아직 시작 안 한 이전 작업은 취소 (실행 중인 작업은 끝나도 지원서에 반영되지 않음)
+    @Modifying
+    @Query("UPDATE MediaJob j SET j.status = :cancelled, j.updatedAt = :now WHERE j.id = :id AND j.status = :pending")
+    int cancelIfPending(@Param("id") Long id,
+                        @Param("pending") MediaJob.Status pending,
+                        @Param("cancelled") MediaJob.Status cancelled,
+                        @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,45 @@
+package com.gamecraft.studios.repository;
+
+import com.gamecraft.studios.entity.StoredFile;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface StoredFileRepository extends JpaRepository<StoredFile, Long> {
+
+    // 참조 1 증가 (없으면 참조 1로 생성) - 행 잠금은 커밋까지 유지되므로 정리 작업과 겹치지 않음
+    // 정리 작업이 먼저 행을 지웠으면 새로 만들어짐
+    @Query(value = "INSERT INTO stored_files (sha256, path, content_type, size, ref_count, created_at, updated_at) " +
+            "VALUES (:sha256, :path, :contentType, :size, 1, :now, :now) " +
+            "ON CONFLICT (sha256) DO UPDATE SET ref_count = stored_files.ref_count + 1, updated_at = EXCLUDED.updated_at " +
+            "RETURNING id", nativeQuery = true)
+    Long addReferenceOrCreate(@Param("sha256") String sha256,
+                              @Param("path") String path,
+                              @Param("contentType") String contentType,
+                              @Param("size") long size,
+                              @Param("now") LocalDateTime now);
+
+    // 참조 수 증감
+    @Modifying
+    @Query("UPDATE StoredFile f SET f.refCount = f.refCount + :delta, f.updatedAt = :now WHERE f.id = :id")
+    int addReference(@Param("id") Long id, @Param("delta") int delta, @Param("now") LocalDateTime now);
+
+    // 해시만으로 다시 쓸 수 있는 파일 - 본인 지원서에 이미 올린 파일로 한정 (해시를 아는 것만으로 남의 파일을 가져갈 수 없음)
+    @Query("SELECT f FROM StoredFile f WHERE f.sha256 = :sha256 AND EXISTS (" +
+            "SELECT a.id FROM Application a WHERE a.user.id = :userId " +
+            "AND (a.resumeFileId = f.id OR a.portfolioFileId = f.id))")
+    Optional<StoredFile> findReusableByUser(@Param("sha256") String sha256, @Param("userId") Long userId);
+
+    // 정리 대상 (참조 0 + 유예 시간 경과) - 다른 트랜잭션이 참조를 늘리는 중인 행은 건너뜀
+    @Query(value = "SELECT * FROM stored_files " +
+            "WHERE ref_count <= 0 AND updated_at < :before " +
+            "ORDER BY id LIMIT :limit FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<StoredFile> findUnreferencedForUpdate(@Param("before") LocalDateTime before, @Param("limit") int limit);
+}
@@ -0,0 +1,30 @@
+package com.gamecraft.studios.repository;
+
+import com.gamecraft.studios.entity.TechStackObservation;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TechStackObservationRepository extends JpaRepository<TechStackObservation, Long> {
+
+    // 기술 스택별 최신 관측값 ((name, observed_at DESC) 인덱스 사용)
+    @Query(value = "SELECT DISTINCT ON (o.name) o.* FROM tech_stack_observations o " +
+            "ORDER BY o.name, o.observed_at DESC", nativeQuery = true)
+    List<TechStackObservation> findLatestPerName();
+
+    // 특정 시점 기준 기술 스택별 관측값 (변경 시에만 기록하므로 시점 이전 마지막 값이 그 시점의 값)
+    // since 이전 행은 보지 않음 → 이력이 쌓여도 조회 범위는 일정
+    @Query(value = "SELECT DISTINCT ON (o.name) o.* FROM tech_stack_observations o " +
+            "WHERE o.observed_at <= :asOf AND o.observed_at > :since " +
+            "ORDER BY o.name, o.observed_at DESC", nativeQuery = true)
+    List<TechStackObservation> findLatestPerNameAsOf(@Param("asOf") LocalDateTime asOf,
+                                                     @Param("since") LocalDateTime since);
+
+    // 기술 스택 하나의 기간별 이력
+    List<TechStackObservation> findByNameAndObservedAtAfterOrderByObservedAtAsc(String name, LocalDateTime since);
+}
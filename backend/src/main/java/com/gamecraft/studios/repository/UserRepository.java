@@ -1,5 +1,6 @@
 package com.gamecraft.studios.repository;
 
+import com.gamecraft.studios.dto.ApplicantSearchHit;
 import com.gamecraft.studios.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -28,7 +29,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
     @Query("SELECT COUNT(u) FROM User u WHERE u.status = 'ACTIVE'")
     long countActiveUsers();
 
-    // 이름으로 사용자 검색 (관리자용)
-    @Query("SELECT u FROM User u WHERE u.name LIKE %:name% ORDER BY u.createdAt DESC")
-    List<User> findByNameContaining(@Param("name") String name);
+    // 이름 유사도 검색 (pg_trgm, 오타/부분 일치 허용) - 지원서 수 포함
+    @Query(value = "SELECT u.id AS id, u.name AS name, u.email AS email, " +
+            "(SELECT COUNT(*) FROM applications a WHERE a.user_id = u.id) AS applicationCount, " +
+            "CAST(similarity(u.name, :name) AS double precision) AS similarity " +
+            "FROM users u " +
+            "WHERE u.name % :name OR u.name ILIKE :pattern " +
+            "ORDER BY similarity DESC, u.id " +
+            "LIMIT :limit", nativeQuery = true)
+    List<ApplicantSearchHit> searchByNameSimilarity(@Param("name") String name,
+                                                    @Param("pattern") String pattern,
+                                                    @Param("limit") int limit);
 }
\ No newline at end of file
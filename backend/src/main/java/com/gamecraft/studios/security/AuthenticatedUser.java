@@ -0,0 +1,55 @@
+package com.gamecraft.studios.security;
+
+import com.gamecraft.studios.entity.User;
+
+import java.time.LocalDateTime;
+
+// 로그인 사용자 요약 (캐시 보관용 불변 객체 - 엔티티를 캐시에 두지 않음)
+public class AuthenticatedUser {
+
+    private final Long id;
+    private final String kakaoId;
+    private final String name;
+    private final String email;
+    private final String profileImage;
+    private final User.Role role;
+    private final User.Status status;
+    private final LocalDateTime createdAt;
+
+    public AuthenticatedUser(Long id, String kakaoId, String name, String email, String profileImage,
+                             User.Role role, User.Status status, LocalDateTime createdAt) {
+        this.id = id;
+        this.kakaoId = kakaoId;
+        this.name = name;
+        this.email = email;
+        this.profileImage = profileImage;
+        this.role = role;
+        this.status = status;
+        this.createdAt = createdAt;
+    }
+
+    public static AuthenticatedUser from(User user) {
+        return new AuthenticatedUser(user.getId(), user.getKakaoId(), user.getName(), user.getEmail(),
+                user.getProfileImage(), user.getRole(), user.getStatus(), user.getCreatedAt());
+    }
+
+    public boolean isAdmin() {
+        return role == User.Role.ADMIN;
+    }
+
+    public Long getId() { return id; }
+
+    public String getKakaoId() { return kakaoId; }
+
+    public String getName() { return name; }
+
+    public String getEmail() { return email; }
+
+    public String getProfileImage() { return profileImage; }
+
+    public User.Role getRole() { return role; }
+
+    public User.Status getStatus() { return status; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
@@ -0,0 +1,15 @@
+package com.gamecraft.studios.security;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 파라미터에 로그인 사용자(AuthenticatedUser) 주입
+ * 로그인하지 않았거나 DB에 사용자가 없으면 null
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface CurrentUser {
+}
@@ -0,0 +1,63 @@
+package com.gamecraft.studios.security;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.oauth2.core.user.OAuth2User;
+import org.springframework.stereotype.Component;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+
+/**
+ * @CurrentUser 파라미터 해석
+ * - OAuth2 principal의 카카오 ID로 CurrentUserCache 조회
+ * - 한 요청 안에서는 요청 속성에 보관해 다시 조회하지 않음
+ */
+@Component
+public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
+
+    private static final String REQUEST_ATTRIBUTE = CurrentUserArgumentResolver.class.getName() + ".user";
+    private static final Object NOT_FOUND = new Object();
+
+    private final CurrentUserCache currentUserCache;
+
+    public CurrentUserArgumentResolver(CurrentUserCache currentUserCache) {
+        this.currentUserCache = currentUserCache;
+    }
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(CurrentUser.class)
+                && AuthenticatedUser.class.isAssignableFrom(parameter.getParameterType());
+    }
+
+    @Override
+    public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                  NativeWebRequest webRequest, WebDataBinderFactory binderFactory) {
+        Object cached = webRequest.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        if (cached != null) {
+            return cached == NOT_FOUND ? null : cached;
+        }
+
+        AuthenticatedUser user = resolve();
+        webRequest.setAttribute(REQUEST_ATTRIBUTE, user != null ? user : NOT_FOUND, RequestAttributes.SCOPE_REQUEST);
+        return user;
+    }
+
+    private AuthenticatedUser resolve() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof OAuth2User oauth2User)) {
+            return null;
+        }
+
+        Object kakaoId = oauth2User.getAttribute("id");
+        if (kakaoId == null) {
+            return null;
+        }
+
+        return currentUserCache.get(kakaoId.toString()).orElse(null);
+    }
+}
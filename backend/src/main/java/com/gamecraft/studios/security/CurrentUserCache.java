@@ -0,0 +1,85 @@
+package com.gamecraft.studios.security;
+
+import com.gamecraft.studios.repository.UserRepository;
+import com.gamecraft.studios.util.SingleFlight;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 카카오 ID → 로그인 사용자 캐시 (크기 제한 LRU + TTL)
+ * - 역할/상태가 바뀌면 invalidate, 다른 노드에서 바뀐 값은 TTL 안에 반영
+ * - DB에 없는 사용자는 캐시하지 않음 (가입 직후 바로 조회되도록)
+ * - invalidate 전에 시작한 조회는 결과를 캐시에 넣지 않고, invalidate 후의 요청은 그 조회에 합류하지 않음
+ *   (변경 전 값을 읽은 조회가 늦게 끝나서 이전 역할을 다시 캐시하지 않도록)
+ */
+@Component
+public class CurrentUserCache {
+
+    private final UserRepository userRepository;
+    private final long ttlMillis;
+    private final Map<String, Entry> entries;
+
+    // invalidate마다 증가 (entries 잠금 안에서만 변경) - 조회 시작 시점의 값과 다르면 그 결과는 캐시하지 않음
+    // 역할 변경은 드물어서 사용자별이 아닌 전체 카운터 하나로 충분
+    private long generation;
+
+    // 같은 사용자의 동시 요청은 DB 조회 한 번만 (같은 generation 안에서만 합류)
+    private final SingleFlight<String, Optional<AuthenticatedUser>> loadGroup = new SingleFlight<>();
+
+    public CurrentUserCache(UserRepository userRepository,
+                            @Value("${auth.current-user.cache-ttl-ms:60000}") long ttlMillis,
+                            @Value("${auth.current-user.cache-max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlMillis = ttlMillis;
+        this.entries = new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    public Optional<AuthenticatedUser> get(String kakaoId) {
+        long loadGeneration;
+        synchronized (entries) {
+            Entry entry = entries.get(kakaoId);
+            if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+                return Optional.of(entry.user);
+            }
+            loadGeneration = generation;
+        }
+
+        return loadGroup.execute(loadGeneration + ":" + kakaoId, () -> {
+            Optional<AuthenticatedUser> loaded = userRepository.findByKakaoId(kakaoId).map(AuthenticatedUser::from);
+            loaded.ifPresent(user -> {
+                synchronized (entries) {
+                    if (generation == loadGeneration) {
+                        entries.put(kakaoId, new Entry(user, System.currentTimeMillis() + ttlMillis));
+                    }
+                }
+            });
+            return loaded;
+        });
+    }
+
+    public void invalidate(String kakaoId) {
+        synchronized (entries) {
+            generation++;
+            entries.remove(kakaoId);
+        }
+    }
+
+    private static class Entry {
+        private final AuthenticatedUser user;
+        private final long expiresAt;
+
+        private Entry(AuthenticatedUser user, long expiresAt) {
+            this.user = user;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,227 @@
+package com.gamecraft.studios.service;
+
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.event.ApplicationStatusChangedEvent;
+import com.gamecraft.studios.event.ApplicationSubmittedEvent;
+import com.gamecraft.studios.repository.ApplicationDailyStatRepository;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 일별 지원서 집계 (application_daily_stats)
+ * - 지원서 제출/상태 변경 시 같은 트랜잭션 안에서 (제출일, 회사, 상태) 행을 증감 → 커밋되면 집계도 함께 반영
+ * - 한 트랜잭션의 변경은 모아서 커밋 직전에 키 순서대로 한 번씩만 upsert (일괄 상태 변경도 행 수가 아닌 키 수만큼)
+ * - 과거 데이터는 백필(시작 시 누락 감지, 매일 최근 기간 재집계)로 원본 테이블에서 다시 계산
+ */
+@Service
+public class ApplicationDailyStatsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationDailyStatsService.class);
+
+    // 트랜잭션에 바인딩되는 증감분 버퍼 키
+    private static final Object PENDING_DELTAS_KEY = new Object();
+
+    private final ApplicationDailyStatRepository dailyStatRepository;
+    private final ApplicationRepository applicationRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkDays;
+    private final int rebuildDays;
+
+    private volatile boolean backfilled;
+
+    public ApplicationDailyStatsService(ApplicationDailyStatRepository dailyStatRepository,
+                                        ApplicationRepository applicationRepository,
+                                        PlatformTransactionManager transactionManager,
+                                        @Value("${dashboard.daily-stats.backfill-chunk-days:31}") int chunkDays,
+                                        @Value("${dashboard.daily-stats.rebuild-days:7}") int rebuildDays) {
+        this.dailyStatRepository = dailyStatRepository;
+        this.applicationRepository = applicationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkDays = Math.max(1, chunkDays);
+        this.rebuildDays = Math.max(1, rebuildDays);
+    }
+
+    @EventListener
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        Map<Key, Long> deltas = new HashMap<>();
+        addDelta(deltas, new Key(dayOf(event.getCreatedAt()), event.getCompany(), event.getStatus()), 1);
+        apply(deltas);
+    }
+
+    @EventListener
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        if (event.getFrom() == event.getTo()) {
+            return;
+        }
+        LocalDate day = dayOf(event.getCreatedAt());
+        Map<Key, Long> deltas = new HashMap<>();
+        addDelta(deltas, new Key(day, event.getCompany(), event.getFrom()), -1);
+        addDelta(deltas, new Key(day, event.getCompany(), event.getTo()), 1);
+        apply(deltas);
+    }
+
+    /**
+     * 집계 누락 확인 후 필요하면 전체 백필 (대시보드 첫 대사 전에 1회)
+     * - 집계 합계가 원본 건수와 다르면 (신규 배포, 이벤트 누락 등) 전체 기간을 재집계
+     */
+    public synchronized void ensureBackfilled() {
+        if (backfilled) {
+            return;
+        }
+
+        long expected = applicationRepository.count();
+        long aggregated = dailyStatRepository.sumGroupByStatusAndCompany().stream()
+                .mapToLong(row -> (Long) row[2])
+                .sum();
+
+        if (expected != aggregated) {
+            LocalDateTime earliest = applicationRepository.findEarliestCreatedAt();
+            if (earliest != null) {
+                logger.info("일별 지원서 집계 백필 시작: 원본 {}건 / 집계 {}건", expected, aggregated);
+                rebuild(earliest.toLocalDate(), LocalDate.now());
+            }
+        }
+        backfilled = true;
+    }
+
+    /**
+     * 최근 기간 재집계 (매일 - 상태 변경 누락 등으로 생긴 오차 보정)
+     */
+    @Scheduled(cron = "${dashboard.daily-stats.rebuild-cron:0 30 4 * * *}")
+    public void rebuildRecent() {
+        LocalDate today = LocalDate.now();
+        rebuild(today.minusDays(rebuildDays - 1), today);
+    }
+
+    /**
+     * 기간 재집계 ([from, to] 제출분)
+     * - 구간별로 나눠 각각 한 트랜잭션: 집계 테이블 잠금 → 구간 삭제 → 원본에서 GROUP BY 한 번으로 다시 채움
+     * - 잠금 동안 들어온 증분 갱신은 대기 후 재집계 결과 위에 더해지므로 중복/누락 없음
+     * @return 다시 채운 집계 행 수
+     */
+    public long rebuild(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("시작일이 종료일보다 늦습니다");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        long rows = 0;
+        LocalDate end = to.plusDays(1);
+
+        for (LocalDate chunkStart = from; chunkStart.isBefore(end); chunkStart = chunkStart.plusDays(chunkDays)) {
+            LocalDate start = chunkStart;
+            LocalDate chunkEnd = start.plusDays(chunkDays).isBefore(end) ? start.plusDays(chunkDays) : end;
+
+            Integer inserted = transactionTemplate.execute(tx -> {
+                dailyStatRepository.lockForRebuild();
+                dailyStatRepository.deleteRange(start, chunkEnd);
+                return dailyStatRepository.insertAggregatedRange(start.atStartOfDay(), chunkEnd.atStartOfDay());
+            });
+            rows += inserted != null ? inserted : 0;
+        }
+
+        logger.info("일별 지원서 집계 재계산: {} ~ {}, {}행 ({}ms)",
+                from, to, rows, System.currentTimeMillis() - startedAt);
+        return rows;
+    }
+
+    /**
+     * 기간 내 일별 지원서 수 (차트용, 지원서가 없는 날도 0으로 포함)
+     */
+    public List<Map<String, Object>> getDailySeries(LocalDate from, LocalDate to) {
+        Map<LocalDate, Map<String, Long>> byDay = new TreeMap<>();
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            byDay.put(day, new HashMap<>());
+        }
+
+        for (Object[] row : dailyStatRepository.sumGroupByDayAndStatus(from, to)) {
+            LocalDate day = (LocalDate) row[0];
+            Application.Status status = (Application.Status) row[1];
+            byDay.computeIfAbsent(day, d -> new HashMap<>()).put(status.name(), (Long) row[2]);
+        }
+
+        List<Map<String, Object>> series = new ArrayList<>(byDay.size());
+        byDay.forEach((day, statusCounts) -> {
+            Map<String, Object> point = new HashMap<>();
+            point.put("date", day);
+            point.put("count", statusCounts.values().stream().mapToLong(Long::longValue).sum());
+            point.put("statusCounts", statusCounts);
+            series.add(point);
+        });
+        return series;
+    }
+
+    // 트랜잭션 안이면 커밋 직전에 모아서 반영, 밖이면 바로 반영
+    private void apply(Map<Key, Long> deltas) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            transactionTemplate.executeWithoutResult(tx -> writeDeltas(deltas));
+            return;
+        }
+
+        @SuppressWarnings("unchecked")
+        Map<Key, Long> pending = (Map<Key, Long>) TransactionSynchronizationManager.getResource(PENDING_DELTAS_KEY);
+        if (pending == null) {
+            Map<Key, Long> buffer = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(PENDING_DELTAS_KEY, buffer);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    writeDeltas(buffer);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(PENDING_DELTAS_KEY);
+                }
+            });
+            pending = buffer;
+        }
+
+        Map<Key, Long> target = pending;
+        deltas.forEach((key, delta) -> addDelta(target, key, delta));
+    }
+
+    // 키 순서를 고정해서 동시 트랜잭션 간 집계 행 잠금 교착 방지
+    private void writeDeltas(Map<Key, Long> deltas) {
+        new TreeMap<>(deltas).forEach((key, delta) -> {
+            if (delta != 0) {
+                dailyStatRepository.addCount(key.day(), key.company(), key.status().name(), delta);
+            }
+        });
+        deltas.clear();
+    }
+
+    private static void addDelta(Map<Key, Long> deltas, Key key, long delta) {
+        deltas.merge(key, delta, Long::sum);
+    }
+
+    private static LocalDate dayOf(LocalDateTime createdAt) {
+        return createdAt != null ? createdAt.toLocalDate() : LocalDate.now();
+    }
+
+    private record Key(LocalDate day, String company, Application.Status status) implements Comparable<Key> {
+
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::day)
+                .thenComparing(Key::company)
+                .thenComparing(Key::status);
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.gamecraft.studios.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamecraft.studios.dto.ApplicationSummary;
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 지원서 내보내기 (CSV / NDJSON)
+ * - 읽기 전용 트랜잭션 안에서 전진 전용 커서로 한 행씩 읽어 바로 출력 스트림에 기록
+ * - 목록을 메모리에 모으지 않으므로 건수와 무관하게 메모리 사용량 일정
+ */
+@Service
+public class ApplicationExportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationExportService.class);
+
+    private static final String[] CSV_HEADER = {
+            "id", "applicantName", "applicantEmail", "company", "position", "status",
+            "experienceLevel", "jobType", "submittedAt", "updatedAt"
+    };
+
+    // 이 행 수마다 클라이언트로 flush
+    private static final int FLUSH_EVERY = 1000;
+
+    public enum Format {
+        CSV("text/csv; charset=UTF-8", "csv"),
+        NDJSON("application/x-ndjson", "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() { return contentType; }
+
+        public String getExtension() { return extension; }
+    }
+
+    private final ApplicationRepository applicationRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+
+    public ApplicationExportService(ApplicationRepository applicationRepository,
+                                    PlatformTransactionManager transactionManager,
+                                    ObjectMapper objectMapper) {
+        this.applicationRepository = applicationRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 필터에 맞는 지원서를 출력 스트림에 기록
+     * @return 기록한 행 수
+     */
+    public long export(Format format, Application.Status status, String companyPattern,
+                       OutputStream outputStream) {
+        Long written = readOnlyTransaction.execute(tx -> {
+            try (Stream<ApplicationSummary> rows = applicationRepository.streamForExport(status, companyPattern)) {
+                return format == Format.CSV
+                        ? writeCsv(rows.iterator(), outputStream)
+                        : writeNdjson(rows.iterator(), outputStream);
+            } catch (IOException e) {
+                // 클라이언트가 다운로드를 중단한 경우 등
+                throw new UncheckedIOException(e);
+            }
+        });
+
+        logger.info("지원서 내보내기 완료: {} {}건", format, written);
+        return written != null ? written : 0;
+    }
+
+    private long writeCsv(Iterator<ApplicationSummary> rows, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        // 엑셀에서 한글이 깨지지 않도록 BOM
+        writer.write('\uFEFF');
+        writer.write(String.join(",", CSV_HEADER));
+        writer.write("\r\n");
+
+        long count = 0;
+        while (rows.hasNext()) {
+            ApplicationSummary row = rows.next();
+            writer.write(String.join(",",
+                    String.valueOf(row.getId()),
+                    csv(row.getApplicantName()),
+                    csv(row.getApplicantEmail()),
+                    csv(row.getCompany()),
+                    csv(row.getPosition()),
+                    String.valueOf(row.getStatus()),
+                    String.valueOf(row.getExperienceLevel()),
+                    String.valueOf(row.getJobType()),
+                    String.valueOf(row.getCreatedAt()),
+                    row.getUpdatedAt() != null ? row.getUpdatedAt().toString() : ""));
+            writer.write("\r\n");
+
+            if (++count % FLUSH_EVERY == 0) {
+                writer.flush();
+            }
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private long writeNdjson(Iterator<ApplicationSummary> rows, OutputStream outputStream) throws IOException {
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream);
+        generator.setRootValueSeparator(null);
+
+        long count = 0;
+        while (rows.hasNext()) {
+            ApplicationSummary row = rows.next();
+            generator.writeStartObject();
+            generator.writeNumberField("id", row.getId());
+            generator.writeStringField("applicantName", row.getApplicantName());
+            generator.writeStringField("applicantEmail", row.getApplicantEmail());
+            generator.writeStringField("company", row.getCompany());
+            generator.writeStringField("position", row.getPosition());
+            generator.writeStringField("status", String.valueOf(row.getStatus()));
+            generator.writeStringField("experienceLevel", String.valueOf(row.getExperienceLevel()));
+            generator.writeStringField("jobType", String.valueOf(row.getJobType()));
+            generator.writeStringField("submittedAt", String.valueOf(row.getCreatedAt()));
+            generator.writeStringField("updatedAt", row.getUpdatedAt() != null ? row.getUpdatedAt().toString() : null);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+
+            if (++count % FLUSH_EVERY == 0) {
+                generator.flush();
+            }
+        }
+
+        generator.flush();
+        return count;
+    }
+
+    // CSV 필드 이스케이프 + 스프레드시트 수식 주입 방지
+    private String csv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+
+        String safe = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.contains(",") || safe.contains("\"") || safe.contains("\n") || safe.contains("\r")) {
+            return "\"" + safe.replace("\"", "\"\"") + "\"";
+        }
+        return safe;
+    }
+}
@@ -0,0 +1,227 @@
+package com.gamecraft.studios.service;
+
+import com.gamecraft.studios.dto.FileUploadResult;
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.entity.StoredFile;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import com.gamecraft.studios.repository.StoredFileRepository;
+import com.gamecraft.studios.util.FileUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 지원서 첨부 파일 (이력서 / 포트폴리오)
+ * - 파일 수신과 SHA-256 계산(느린 I/O)은 트랜잭션 밖에서 먼저 끝내고, DB에는 짧은 트랜잭션으로 참조만 교체
+ * - 파일 내용은 stored_files 1건 + 디스크 1개만 두고 지원서들이 참조 (같은 파일을 여러 지원서에 올려도 한 번만 저장)
+ * - 참조가 0이 된 파일은 유예 시간이 지난 뒤 정리 작업(collectGarbage)이 삭제
+ * - 포트폴리오가 영상/이미지면 같은 트랜잭션에서 미디어 처리 작업 등록 (MediaProcessingService)
+ */
+@Service
+public class ApplicationFileService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationFileService.class);
+
+    private static final Pattern SHA256_HEX = Pattern.compile("[0-9a-f]{64}");
+    private static final int GC_BATCH_SIZE = 100;
+    private static final int MAX_LOCK_ATTEMPTS = 3;
+
+    private final ApplicationRepository applicationRepository;
+    private final StoredFileRepository storedFileRepository;
+    private final FileStorageService fileStorageService;
+    private final MediaProcessingService mediaProcessingService;
+    private final TransactionTemplate transactionTemplate;
+    private final int gcGraceHours;
+
+    public ApplicationFileService(ApplicationRepository applicationRepository,
+                                  StoredFileRepository storedFileRepository,
+                                  FileStorageService fileStorageService,
+                                  MediaProcessingService mediaProcessingService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${file.storage.gc-grace-hours:1}") int gcGraceHours) {
+        this.applicationRepository = applicationRepository;
+        this.storedFileRepository = storedFileRepository;
+        this.fileStorageService = fileStorageService;
+        this.mediaProcessingService = mediaProcessingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.gcGraceHours = gcGraceHours;
+    }
+
+    /**
+     * 첨부 파일 업로드 (같은 종류의 기존 파일은 교체)
+     * - 이미 저장된 내용이면 디스크에 다시 쓰지 않고 참조만 추가
+     *
+     * @throws IllegalArgumentException 지원서 없음, 허용하지 않는 형식
+     */
+    public FileUploadResult upload(Long applicationId, FileStorageService.Kind kind, MultipartFile file)
+            throws IOException {
+        FileStorageService.StagedFile staged = fileStorageService.stage(kind, file);
+        try {
+            return executeWithRetry(status -> attachStaged(applicationId, kind, staged));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            fileStorageService.discard(staged);
+        }
+    }
+
+    /**
+     * 해시로 첨부 (본문 전송 없이 즉시 완료) - 본인이 다른 지원서에 이미 올린 파일만 가능
+     * - 해시를 아는 것만으로 다른 사용자의 파일을 가져갈 수 없도록 본인 파일로 한정
+     *
+     * @return 쓸 수 있는 파일이 없으면 empty (클라이언트는 일반 업로드로 다시 요청)
+     * @throws IllegalArgumentException 지원서 없음, 잘못된 해시, 이 종류에 허용하지 않는 형식
+     */
+    public Optional<FileUploadResult> attachExisting(Long applicationId, Long userId, FileStorageService.Kind kind,
+                                                     String sha256, String fileName) {
+        String normalized = sha256 == null ? "" : sha256.trim().toLowerCase(Locale.ROOT);
+        if (!SHA256_HEX.matcher(normalized).matches()) {
+            throw new IllegalArgumentException("sha256은 64자리 16진수여야 합니다");
+        }
+
+        return executeWithRetry(status -> {
+            Application application = lockApplication(applicationId);
+
+            Optional<StoredFile> reusable = storedFileRepository.findReusableByUser(normalized, userId);
+            if (reusable.isEmpty() || !fileStorageService.exists(reusable.get().getPath())) {
+                return Optional.empty();
+            }
+            StoredFile stored = reusable.get();
+            if (!kind.allows(stored.getContentType())) {
+                throw new IllegalArgumentException("허용하지 않는 파일 형식입니다: " + stored.getContentType().getExtension());
+            }
+
+            LocalDateTime now = LocalDateTime.now();
+            storedFileRepository.addReference(stored.getId(), 1, now);
+            String originalFilename = FileUtil.sanitizeFilename(fileName);
+            replaceReference(application, kind, stored.getId(), stored.getPath(), originalFilename, now);
+            if (kind == FileStorageService.Kind.PORTFOLIO) {
+                mediaProcessingService.enqueue(application, stored.getId(), stored.getSha256(),
+                        stored.getContentType(), now);
+            }
+
+            return Optional.of(new FileUploadResult(stored.getId(), stored.getSha256(), originalFilename,
+                    stored.getContentType(), stored.getSize(), true));
+        });
+    }
+
+    /**
+     * 참조가 없는 파일 정리 - 유예 시간 동안은 남겨둠 (교체 직후 되돌리기/해시 재첨부 대비)
+     * - 다른 요청이 참조를 늘리는 중인 행은 SKIP LOCKED로 건너뛰고, 삭제할 행은 파일을 지울 때까지 잠가둠
+     */
+    @Scheduled(cron = "${file.storage.gc-cron:0 45 * * * *}")
+    public void collectGarbage() {
+        LocalDateTime before = LocalDateTime.now().minusHours(gcGraceHours);
+        int total = 0;
+        int collected;
+        do {
+            collected = transactionTemplate.execute(status -> {
+                List<StoredFile> files = storedFileRepository.findUnreferencedForUpdate(before, GC_BATCH_SIZE);
+                files.forEach(file -> {
+                    fileStorageService.delete(file.getPath());
+                    fileStorageService.deleteDerived(file.getSha256());
+                });
+                storedFileRepository.deleteAllInBatch(files);
+                return files.size();
+            });
+            total += collected;
+        } while (collected == GC_BATCH_SIZE);
+
+        if (total > 0) {
+            logger.info("참조 없는 업로드 파일 {}건 삭제", total);
+        }
+    }
+
+    private FileUploadResult attachStaged(Long applicationId, FileStorageService.Kind kind,
+                                          FileStorageService.StagedFile staged) {
+        Application application = lockApplication(applicationId);
+
+        // 참조 행을 먼저 잠근 뒤 파일을 넣음 → 같은 파일을 정리 작업이 동시에 지우는 일이 없음
+        // 롤백돼도 새로 넣은 파일은 남겨둠 (같은 내용을 다른 요청이 이어서 참조할 수 있음, 재업로드 때 그대로 쓰임)
+        LocalDateTime now = LocalDateTime.now();
+        String path = fileStorageService.objectPath(staged.getSha256());
+        Long fileId = storedFileRepository.addReferenceOrCreate(staged.getSha256(), path,
+                staged.getType().name(), staged.getSize(), now);
+        boolean placed;
+        try {
+            placed = fileStorageService.placeObject(staged);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        replaceReference(application, kind, fileId, path, staged.getOriginalFilename(), now);
+        if (kind == FileStorageService.Kind.PORTFOLIO) {
+            mediaProcessingService.enqueue(application, fileId, staged.getSha256(), staged.getType(), now);
+        }
+
+        return new FileUploadResult(fileId, staged.getSha256(), staged.getOriginalFilename(),
+                staged.getType(), staged.getSize(), !placed);
+    }
+
+    // 두 지원서가 서로의 이전 파일로 동시에 교체하면 참조 행 잠금 순서가 엇갈려 교착될 수 있음 → 몇 번 다시 시도
+    private <T> T executeWithRetry(TransactionCallback<T> callback) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transactionTemplate.execute(callback);
+            } catch (PessimisticLockingFailureException e) {
+                if (attempt >= MAX_LOCK_ATTEMPTS) {
+                    throw e;
+                }
+                logger.debug("첨부 파일 교체 잠금 충돌, 재시도 {}/{}", attempt, MAX_LOCK_ATTEMPTS);
+            }
+        }
+    }
+
+    private Application lockApplication(Long applicationId) {
+        return applicationRepository.findByIdForUpdate(applicationId)
+                .orElseThrow(() -> new IllegalArgumentException("지원서를 찾을 수 없습니다"));
+    }
+
+    // 지원서의 파일 참조 교체 - 이전 파일은 참조 1 감소 (stored_files 이전에 올린 파일은 커밋 후 바로 삭제)
+    private void replaceReference(Application application, FileStorageService.Kind kind, Long fileId, String path,
+                                  String originalFilename, LocalDateTime now) {
+        Long previousFileId;
+        String previousPath;
+        if (kind == FileStorageService.Kind.RESUME) {
+            previousFileId = application.getResumeFileId();
+            previousPath = application.getResumeFilePath();
+            application.setResumeFileName(originalFilename);
+            application.setResumeFilePath(path);
+            application.setResumeFileId(fileId);
+        } else {
+            previousFileId = application.getPortfolioFileId();
+            previousPath = application.getPortfolioFilePath();
+            application.setPortfolioFileName(originalFilename);
+            application.setPortfolioFilePath(path);
+            application.setPortfolioFileId(fileId);
+        }
+
+        if (previousFileId != null) {
+            storedFileRepository.addReference(previousFileId, -1, now);
+        } else if (previousPath != null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    fileStorageService.delete(previousPath);
+                }
+            });
+        }
+    }
+}
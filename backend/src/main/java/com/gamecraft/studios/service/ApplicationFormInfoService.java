@@ -0,0 +1,87 @@
+package com.gamecraft.studios.service;
+
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.entity.JobPosition;
+import com.gamecraft.studios.repository.JobPositionRepository;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지원서 폼 선택지 (/application/form-info)
+ * - 마감 직전 폼 조회가 몰려도 DB를 읽지 않도록 주기적으로 한 번 계산해서 메모리에 보관
+ * - 회사/포지션: 모집중인 채용공고 기준, 경력/직무: enum 설명
+ */
+@Service
+public class ApplicationFormInfoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationFormInfoService.class);
+
+    private final JobPositionRepository jobPositionRepository;
+
+    private volatile Map<String, Object> formInfo = buildFormInfo(List.of(), List.of(), null);
+
+    public ApplicationFormInfoService(JobPositionRepository jobPositionRepository) {
+        this.jobPositionRepository = jobPositionRepository;
+    }
+
+    /**
+     * 시작 시 1회 계산 - 공용 @Scheduled 스레드는 다른 작업(GitHub 스냅샷 갱신 등) 뒤에 돌 수 있으므로
+     * 첫 값은 서버가 요청을 받기 전에 채워 둠 (빈 선택지로 응답하지 않도록)
+     */
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * 선택지 재계산 (주기적)
+     */
+    @Scheduled(initialDelayString = "${submission.form-info.refresh-interval-ms:300000}",
+            fixedDelayString = "${submission.form-info.refresh-interval-ms:300000}")
+    public void refresh() {
+        List<String> companies = jobPositionRepository.findDistinctCompanies(JobPosition.Status.ACTIVE);
+        List<String> positions = jobPositionRepository.findDistinctTitles(JobPosition.Status.ACTIVE);
+        formInfo = buildFormInfo(companies, positions, LocalDateTime.now());
+
+        logger.debug("지원서 폼 선택지 갱신: 회사 {}개, 포지션 {}개", companies.size(), positions.size());
+    }
+
+    /**
+     * 캐시된 선택지 (수정 불가 Map - 응답에 그대로 사용)
+     */
+    public Map<String, Object> getFormInfo() {
+        return formInfo;
+    }
+
+    private static Map<String, Object> buildFormInfo(List<String> companies, List<String> positions,
+                                                     LocalDateTime updatedAt) {
+        Map<String, String> experienceLevels = new LinkedHashMap<>();
+        for (Application.ExperienceLevel level : Application.ExperienceLevel.values()) {
+            experienceLevels.put(level.name(), level.getDescription());
+        }
+
+        Map<String, String> jobTypes = new LinkedHashMap<>();
+        for (Application.JobType jobType : Application.JobType.values()) {
+            jobTypes.put(jobType.name(), jobType.getDescription());
+        }
+
+        Map<String, Object> info = new LinkedHashMap<>();
+        info.put("success", true);
+        info.put("message", "지원서 폼 정보");
+        info.put("companies", List.copyOf(companies));
+        info.put("positions", List.copyOf(positions));
+        info.put("experienceLevels", Collections.unmodifiableMap(experienceLevels));
+        info.put("jobTypes", Collections.unmodifiableMap(jobTypes));
+        info.put("updatedAt", updatedAt);
+        return Collections.unmodifiableMap(info);
+    }
+}
@@ -0,0 +1,78 @@
+package com.gamecraft.studios.service;
+
+import com.gamecraft.studios.dto.ApplicantSearchHit;
+import com.gamecraft.studios.dto.ApplicationSearchHit;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import com.gamecraft.studios.repository.UserRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * 관리자 검색
+ * - 지원서: 회사/포지션/자기소개서 전문 검색 (tsvector + GIN, rank 순 페이징)
+ * - 지원자: 이름 유사도 검색 (pg_trgm)
+ */
+@Service
+@Transactional(readOnly = true)
+public class ApplicationSearchService {
+
+    public static final int MAX_PAGE_SIZE = 100;
+    // 이보다 뒤 페이지는 마지막 허용 페이지로 취급 (OFFSET이 int 범위를 넘지 않도록, 깊은 OFFSET 스캔 방지)
+    public static final int MAX_PAGE = 1000;
+
+    private final ApplicationRepository applicationRepository;
+    private final UserRepository userRepository;
+
+    public ApplicationSearchService(ApplicationRepository applicationRepository,
+                                    UserRepository userRepository) {
+        this.applicationRepository = applicationRepository;
+        this.userRepository = userRepository;
+    }
+
+    /**
+     * 지원서 전문 검색 - 모든 검색어를 포함(접두어 일치)하는 지원서를 관련도 순으로
+     */
+    public List<ApplicationSearchHit> searchApplications(String keyword, int page, int size) {
+        String tsQuery = toPrefixTsQuery(keyword);
+        if (tsQuery.isEmpty()) {
+            return List.of();
+        }
+
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int offset = Math.max(0, Math.min(page, MAX_PAGE)) * pageSize;
+        return applicationRepository.searchFullText(tsQuery, pageSize, offset);
+    }
+
+    /**
+     * 지원자 이름 검색 - 부분 일치 또는 철자가 비슷한 이름
+     */
+    public List<ApplicantSearchHit> searchApplicants(String name, int limit) {
+        String trimmed = name == null ? "" : name.trim();
+        if (trimmed.isEmpty()) {
+            return List.of();
+        }
+
+        String pattern = "%" + trimmed
+                .replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_") + "%";
+        return userRepository.searchByNameSimilarity(trimmed, pattern, Math.max(1, Math.min(limit, MAX_PAGE_SIZE)));
+    }
+
+    // "카카오 spring-boot" → "카카오:* & spring:* & boot:*" (문자/숫자 외에는 구분자로 취급)
+    private String toPrefixTsQuery(String keyword) {
+        if (keyword == null) {
+            return "";
+        }
+
+        return Arrays.stream(keyword.replaceAll("[^\\p{L}\\p{N}]+", " ").trim().split(" "))
+                .filter(term -> !term.isEmpty())
+                .map(term -> term.toLowerCase(Locale.ROOT) + ":*")
+                .collect(Collectors.joining(" & "));
+    }
+}
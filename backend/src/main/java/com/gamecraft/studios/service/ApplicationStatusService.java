@@ -0,0 +1,175 @@
+package com.gamecraft.studios.service;
+
+import com.gamecraft.studios.dto.ApplicationStatusChange;
+import com.gamecraft.studios.dto.ApplicationStatusRow;
+import com.gamecraft.studios.dto.BulkStatusUpdateResult;
+import com.gamecraft.studios.dto.StatusChangeResult;
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.event.ApplicationStatusChangedEvent;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 지원서 상태 변경
+ * - 허용된 전이만 가능 (Application.Status#nextStatuses)
+ * - 단건 변경은 조건부 UPDATE 한 번 (WHERE id = ? AND status = 기대 상태) → 잠금 없이 동시 변경 중 하나만 성공, 진 쪽은 CONFLICT
+ * - 일괄 변경은 한 트랜잭션에서 잠금 조회 1번 + 벌크 UPDATE 최대 2번으로 처리 (건수와 무관)
+ * - 실제로 바뀐 지원서만 상태 변경 이벤트 발행 (커밋 후 통계 반영)
+ */
+@Service
+@Transactional
+public class ApplicationStatusService {
+
+    private final ApplicationRepository applicationRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int maxBulkSize;
+
+    public ApplicationStatusService(ApplicationRepository applicationRepository,
+                                    ApplicationEventPublisher eventPublisher,
+                                    @Value("${admin.bulk-status.max-size:1000}") int maxBulkSize) {
+        this.applicationRepository = applicationRepository;
+        this.eventPublisher = eventPublisher;
+        this.maxBulkSize = maxBulkSize;
+    }
+
+    /**
+     * 지원서 상태 변경 (단건)
+     * - 허용 여부는 DB의 실제 상태 기준: 요청자가 본 상태가 이미 바뀌었으면 전이 가능 여부와 관계없이 CONFLICT
+     * @param expectedStatus 요청자가 보고 있던 상태 - null이면 현재 상태를 읽어서 사용 (조회 1번 추가)
+     * @param adminNotes null이면 메모는 그대로 둠
+     */
+    public StatusChangeResult changeStatus(Long applicationId,
+                                           Application.Status expectedStatus,
+                                           Application.Status targetStatus,
+                                           String adminNotes) {
+        Application.Status from = expectedStatus;
+        if (from == null) {
+            Optional<ApplicationStatusRow> row = applicationRepository.findStatusRowById(applicationId);
+            if (row.isEmpty()) {
+                return new StatusChangeResult(StatusChangeResult.Outcome.NOT_FOUND, applicationId, null, null, null);
+            }
+            from = row.get().getStatus();
+
+            // 방금 읽은 실제 상태에서 허용하지 않는 전이 → 다시 읽을 필요 없음
+            if (!isAllowed(from, targetStatus)) {
+                return new StatusChangeResult(StatusChangeResult.Outcome.NOT_ALLOWED, applicationId, from, from, null);
+            }
+        }
+
+        if (isAllowed(from, targetStatus)) {
+            Optional<ApplicationStatusChange> changed = applicationRepository.compareAndSetStatus(
+                    applicationId, from.name(), targetStatus.name(), adminNotes, LocalDateTime.now());
+
+            if (changed.isPresent()) {
+                return applied(applicationId, from, targetStatus, changed.get());
+            }
+        }
+
+        // 조건부 UPDATE가 실패했거나 요청자가 본 상태에서 허용하지 않는 전이 → 실제 상태를 읽어서 판단
+        return applicationRepository.findStatusRowById(applicationId)
+                .map(row -> rejected(applicationId, expectedStatus, row.getStatus(), targetStatus))
+                .orElseGet(() -> new StatusChangeResult(StatusChangeResult.Outcome.NOT_FOUND,
+                        applicationId, null, null, null));
+    }
+
+    private StatusChangeResult applied(Long applicationId, Application.Status from, Application.Status targetStatus,
+                                       ApplicationStatusChange change) {
+        if (from == targetStatus) {
+            return new StatusChangeResult(StatusChangeResult.Outcome.UNCHANGED,
+                    applicationId, from, targetStatus, change.getUpdatedAt());
+        }
+
+        eventPublisher.publishEvent(new ApplicationStatusChangedEvent(
+                change.getId(), change.getCompany(), from, targetStatus, change.getCreatedAt()));
+        return new StatusChangeResult(StatusChangeResult.Outcome.UPDATED,
+                applicationId, from, targetStatus, change.getUpdatedAt());
+    }
+
+    // 변경하지 못한 이유 - 요청자가 본 상태와 다르면 CONFLICT, 같은데도 실패했다면 실제 상태에서 허용하지 않는 전이
+    // (expectedStatus 없이 읽은 상태가 그새 바뀐 경우도 CONFLICT)
+    private StatusChangeResult rejected(Long applicationId, Application.Status expectedStatus,
+                                        Application.Status actual, Application.Status targetStatus) {
+        if (expectedStatus == actual && !isAllowed(actual, targetStatus)) {
+            return new StatusChangeResult(StatusChangeResult.Outcome.NOT_ALLOWED, applicationId, actual, actual, null);
+        }
+        return new StatusChangeResult(StatusChangeResult.Outcome.CONFLICT, applicationId, actual, actual, null);
+    }
+
+    private boolean isAllowed(Application.Status from, Application.Status targetStatus) {
+        return from == targetStatus || from.canTransitionTo(targetStatus);
+    }
+
+    /**
+     * 지원서 상태 일괄 변경
+     * @param adminNotes null이면 메모는 그대로 둠 (상태가 이미 같은 지원서도 메모는 갱신, 허용하지 않는 전이는 제외)
+     * @throws IllegalArgumentException 대상이 비어 있거나 최대 건수 초과
+     */
+    public BulkStatusUpdateResult updateStatuses(Collection<Long> applicationIds,
+                                                 Application.Status targetStatus,
+                                                 String adminNotes) {
+        Set<Long> ids = new LinkedHashSet<>(applicationIds);
+        ids.remove(null);
+
+        if (ids.isEmpty()) {
+            throw new IllegalArgumentException("변경할 지원서가 없습니다");
+        }
+        if (ids.size() > maxBulkSize) {
+            throw new IllegalArgumentException("한 번에 최대 " + maxBulkSize + "건까지 변경할 수 있습니다");
+        }
+
+        // 잠금 순서를 id 순으로 고정해서 동시 일괄 변경 간 교착 방지
+        Map<Long, ApplicationStatusRow> rows = applicationRepository.findStatusRowsForUpdate(ids).stream()
+                .collect(Collectors.toMap(ApplicationStatusRow::getId, Function.identity()));
+
+        List<ApplicationStatusRow> changed = rows.values().stream()
+                .filter(row -> row.getStatus().canTransitionTo(targetStatus))
+                .toList();
+        List<Long> applicable = rows.values().stream()
+                .filter(row -> row.getStatus() == targetStatus || row.getStatus().canTransitionTo(targetStatus))
+                .map(ApplicationStatusRow::getId)
+                .toList();
+
+        LocalDateTime now = LocalDateTime.now();
+
+        if (!changed.isEmpty()) {
+            applicationRepository.updateStatusByIds(
+                    changed.stream().map(ApplicationStatusRow::getId).toList(), targetStatus, now);
+        }
+        if (adminNotes != null && !applicable.isEmpty()) {
+            applicationRepository.updateAdminNotesByIds(applicable, adminNotes, now);
+        }
+
+        for (ApplicationStatusRow row : changed) {
+            eventPublisher.publishEvent(new ApplicationStatusChangedEvent(
+                    row.getId(), row.getCompany(), row.getStatus(), targetStatus, row.getCreatedAt()));
+        }
+
+        List<BulkStatusUpdateResult.Item> items = ids.stream()
+                .map(id -> {
+                    ApplicationStatusRow row = rows.get(id);
+                    if (row == null) {
+                        return new BulkStatusUpdateResult.Item(id, BulkStatusUpdateResult.Outcome.NOT_FOUND, null);
+                    }
+                    BulkStatusUpdateResult.Outcome outcome;
+                    if (row.getStatus() == targetStatus) {
+                        outcome = BulkStatusUpdateResult.Outcome.UNCHANGED;
+                    } else if (row.getStatus().canTransitionTo(targetStatus)) {
+                        outcome = BulkStatusUpdateResult.Outcome.UPDATED;
+                    } else {
+                        outcome = BulkStatusUpdateResult.Outcome.NOT_ALLOWED;
+                    }
+                    return new BulkStatusUpdateResult.Item(id, outcome, row.getStatus());
+                })
+                .toList();
+
+        return new BulkStatusUpdateResult(targetStatus, items);
+    }
+}
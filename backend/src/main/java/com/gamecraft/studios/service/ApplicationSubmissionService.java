@@ -0,0 +1,217 @@
+package com.gamecraft.studios.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamecraft.studios.dto.ApplicationStatusRow;
+import com.gamecraft.studios.dto.ApplicationSubmissionResult;
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.entity.IdempotencyKey;
+import com.gamecraft.studios.event.ApplicationSubmittedEvent;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import com.gamecraft.studios.repository.IdempotencyKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 지원서 제출
+ * - 중복 지원 판단은 (사용자, 회사, 포지션) 유니크 제약에 맡김: INSERT ... ON CONFLICT DO NOTHING 한 번으로 끝나므로
+ *   조회 후 INSERT 사이의 경쟁 조건이 없고, 다른 사용자 간에는 서로 기다리는 잠금도 없음
+ * - Idempotency-Key: 키를 먼저 선점(INSERT)하고 같은 트랜잭션에서 결과를 기록
+ *   → 재시도 요청은 처음 결과를 그대로 받고, 동시에 들어온 같은 키 요청은 처음 요청이 끝날 때까지만 대기
+ */
+@Service
+public class ApplicationSubmissionService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationSubmissionService.class);
+
+    public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+    private static final int MAX_FIELD_LENGTH = 255;
+
+    private final ApplicationRepository applicationRepository;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectMapper objectMapper;
+    private final int idempotencyKeyTtlHours;
+
+    public ApplicationSubmissionService(ApplicationRepository applicationRepository,
+                                        IdempotencyKeyRepository idempotencyKeyRepository,
+                                        ApplicationEventPublisher eventPublisher,
+                                        ObjectMapper objectMapper,
+                                        @Value("${submission.idempotency-key.ttl-hours:24}") int idempotencyKeyTtlHours) {
+        this.applicationRepository = applicationRepository;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.eventPublisher = eventPublisher;
+        this.objectMapper = objectMapper;
+        this.idempotencyKeyTtlHours = idempotencyKeyTtlHours;
+    }
+
+    /**
+     * 지원서 제출
+     *
+     * @param idempotencyKey 없으면(null) 재시도 보호 없이 중복 지원 검사만
+     * @throws IllegalArgumentException 필수 항목 누락, 잘못된 경력/직무 값
+     */
+    @Transactional
+    public ApplicationSubmissionResult submit(Long userId, Map<String, Object> requestData, String idempotencyKey) {
+        Application draft = toDraft(requestData);
+        LocalDateTime now = LocalDateTime.now();
+
+        if (idempotencyKey != null) {
+            String requestHash = hash(draft);
+            if (idempotencyKeyRepository.claim(userId, idempotencyKey, requestHash, now) == 0) {
+                return replay(userId, idempotencyKey, requestHash, draft);
+            }
+        }
+
+        List<Long> inserted = applicationRepository.insertIfAbsent(userId, draft.getCompany(), draft.getPosition(),
+                draft.getExperienceLevel().name(), draft.getJobType().name(), toJson(draft.getSkills()),
+                draft.getCoverLetter(), draft.getExpectedSalary(), draft.getAvailableStartDate(),
+                draft.getWorkLocation(), draft.getReferenceLink(), Application.Status.SUBMITTED.name(), now);
+
+        ApplicationSubmissionResult result;
+        if (inserted.isEmpty()) {
+            // 충돌한 INSERT는 상대 트랜잭션 커밋까지 기다린 뒤 끝나므로 이 시점에는 기존 지원서가 보임
+            ApplicationStatusRow existing = applicationRepository
+                    .findStatusRowByUserAndPosition(userId, draft.getCompany(), draft.getPosition())
+                    .orElseThrow(() -> new IllegalStateException("중복 지원서를 찾을 수 없습니다"));
+            result = new ApplicationSubmissionResult(ApplicationSubmissionResult.Outcome.DUPLICATE,
+                    existing.getId(), draft.getCompany(), draft.getPosition(), existing.getStatus(), false);
+        } else {
+            Long applicationId = inserted.get(0);
+            eventPublisher.publishEvent(new ApplicationSubmittedEvent(
+                    applicationId, draft.getCompany(), Application.Status.SUBMITTED, now));
+            result = new ApplicationSubmissionResult(ApplicationSubmissionResult.Outcome.CREATED,
+                    applicationId, draft.getCompany(), draft.getPosition(), Application.Status.SUBMITTED, false);
+        }
+
+        if (idempotencyKey != null) {
+            idempotencyKeyRepository.complete(userId, idempotencyKey, result.getApplicationId(),
+                    result.getOutcome() == ApplicationSubmissionResult.Outcome.DUPLICATE);
+        }
+        return result;
+    }
+
+    /**
+     * 보관 기간 지난 Idempotency-Key 삭제
+     */
+    @Scheduled(cron = "${submission.idempotency-key.cleanup-cron:0 15 * * * *}")
+    @Transactional
+    public void deleteExpiredKeys() {
+        int deleted = idempotencyKeyRepository.deleteCreatedBefore(
+                LocalDateTime.now().minusHours(idempotencyKeyTtlHours));
+        if (deleted > 0) {
+            logger.info("만료된 Idempotency-Key {}건 삭제", deleted);
+        }
+    }
+
+    // 이미 처리된 키 - 처음 요청과 내용이 같으면 저장된 결과를 다시 응답
+    private ApplicationSubmissionResult replay(Long userId, String idempotencyKey, String requestHash,
+                                               Application draft) {
+        IdempotencyKey key = idempotencyKeyRepository.findByUserIdAndIdempotencyKey(userId, idempotencyKey)
+                .orElseThrow(() -> new IllegalStateException("Idempotency-Key 기록을 찾을 수 없습니다"));
+
+        if (!key.getRequestHash().equals(requestHash)) {
+            return ApplicationSubmissionResult.keyReused();
+        }
+
+        ApplicationSubmissionResult.Outcome outcome = Boolean.TRUE.equals(key.getDuplicate())
+                ? ApplicationSubmissionResult.Outcome.DUPLICATE
+                : ApplicationSubmissionResult.Outcome.CREATED;
+        Application.Status status = applicationRepository.findStatusRowById(key.getApplicationId())
+                .map(ApplicationStatusRow::getStatus)
+                .orElse(null);
+        return new ApplicationSubmissionResult(outcome, key.getApplicationId(),
+                draft.getCompany(), draft.getPosition(), status, true);
+    }
+
+    // 요청 본문 → 저장할 값 (앞뒤 공백 제거, 기술 목록 정리는 Application.setSkills)
+    private Application toDraft(Map<String, Object> requestData) {
+        if (requestData == null) {
+            throw new IllegalArgumentException("요청 본문이 필요합니다");
+        }
+
+        Application draft = new Application();
+        draft.setCompany(requiredText(requestData, "company"));
+        draft.setPosition(requiredText(requestData, "position"));
+        draft.setExperienceLevel(Application.ExperienceLevel.valueOf(requiredText(requestData, "experienceLevel")));
+        draft.setJobType(Application.JobType.valueOf(requiredText(requestData, "jobType")));
+        draft.setCoverLetter(optionalText(requestData, "coverLetter"));
+        draft.setExpectedSalary(optionalText(requestData, "expectedSalary"));
+        draft.setAvailableStartDate(optionalText(requestData, "availableStartDate"));
+        draft.setWorkLocation(optionalText(requestData, "workLocation"));
+        draft.setReferenceLink(optionalText(requestData, "referenceLink"));
+
+        Object skills = requestData.get("skills");
+        if (skills != null && !(skills instanceof List)) {
+            throw new IllegalArgumentException("skills는 목록이어야 합니다");
+        }
+        draft.setSkills(skills == null ? List.of() : ((List<?>) skills).stream()
+                .filter(Objects::nonNull)
+                .map(Object::toString)
+                .toList());
+        return draft;
+    }
+
+    private static String requiredText(Map<String, Object> requestData, String field) {
+        String value = optionalText(requestData, field);
+        if (value == null) {
+            throw new IllegalArgumentException(field + " 항목이 필요합니다");
+        }
+        return value;
+    }
+
+    private static String optionalText(Map<String, Object> requestData, String field) {
+        Object value = requestData.get(field);
+        if (value == null || value.toString().isBlank()) {
+            return null;
+        }
+        String text = value.toString().trim();
+        if (!"coverLetter".equals(field) && text.length() > MAX_FIELD_LENGTH) {
+            throw new IllegalArgumentException(field + " 항목은 " + MAX_FIELD_LENGTH + "자 이하여야 합니다");
+        }
+        return text;
+    }
+
+    // 정리된 값 기준 요청 지문 - 공백/기술 중복 차이만 있는 재시도는 같은 요청으로 봄
+    private String hash(Application draft) {
+        Map<String, Object> canonical = new LinkedHashMap<>();
+        canonical.put("company", draft.getCompany());
+        canonical.put("position", draft.getPosition());
+        canonical.put("experienceLevel", draft.getExperienceLevel());
+        canonical.put("jobType", draft.getJobType());
+        canonical.put("skills", draft.getSkills());
+        canonical.put("coverLetter", draft.getCoverLetter());
+        canonical.put("expectedSalary", draft.getExpectedSalary());
+        canonical.put("availableStartDate", draft.getAvailableStartDate());
+        canonical.put("workLocation", draft.getWorkLocation());
+        canonical.put("referenceLink", draft.getReferenceLink());
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(objectMapper.writeValueAsBytes(canonical)));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("요청 지문 계산 실패", e);
+        }
+    }
+
+    private String toJson(List<String> skills) {
+        try {
+            return objectMapper.writeValueAsString(skills);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("잘못된 기술 목록", e);
+        }
+    }
+}
@@ -0,0 +1,222 @@
+package com.gamecraft.studios.service;
+
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.event.ApplicationStatusChangedEvent;
+import com.gamecraft.studios.event.ApplicationSubmittedEvent;
+import com.gamecraft.studios.event.DashboardDeltaEvent;
+import com.gamecraft.studios.repository.ApplicationDailyStatRepository;
+import com.gamecraft.studios.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 관리자 대시보드 통계 (메모리 카운터)
+ * - 지원서 제출/상태 변경 이벤트로 카운터를 증분 갱신 → 대시보드 조회는 테이블 크기와 무관
+ * - 주기적으로 일별 집계 테이블과 대사 (이벤트 누락/다중 노드 오차 보정, 원본 테이블은 읽지 않음)
+ * - 카운터를 바꿀 때마다 변화량 이벤트 발행 (실시간 대시보드)
+ */
+@Service
+public class DashboardStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStatisticsService.class);
+
+    // 최근 지원서 집계 기간 (오늘 포함 7일)
+    private static final int RECENT_DAYS = 7;
+
+    private final ApplicationDailyStatsService dailyStatsService;
+    private final ApplicationDailyStatRepository dailyStatRepository;
+    private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 대사 시 통째로 교체
+    private volatile Counters counters = new Counters();
+
+    // 카운터 갱신 + 변화량 발행은 read 잠금(서로 동시 진행), 스냅샷/교체는 write 잠금
+    // → 스냅샷에 반영된 변경의 변화량은 항상 스냅샷 시점에 이미 발행되어 있음
+    private final ReentrantReadWriteLock snapshotLock = new ReentrantReadWriteLock();
+
+    public DashboardStatisticsService(ApplicationDailyStatsService dailyStatsService,
+                                      ApplicationDailyStatRepository dailyStatRepository,
+                                      UserRepository userRepository,
+                                      ApplicationEventPublisher eventPublisher) {
+        this.dailyStatsService = dailyStatsService;
+        this.dailyStatRepository = dailyStatRepository;
+        this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationSubmitted(ApplicationSubmittedEvent event) {
+        LocalDate day = event.getCreatedAt() != null ? event.getCreatedAt().toLocalDate() : LocalDate.now();
+        boolean recent = !day.isBefore(LocalDate.now().minusDays(RECENT_DAYS - 1));
+
+        snapshotLock.readLock().lock();
+        try {
+            Counters current = counters;
+            current.total.increment();
+            current.byStatus.get(event.getStatus()).increment();
+            current.byCompany.computeIfAbsent(event.getCompany(), company -> new LongAdder()).increment();
+            current.byDay.computeIfAbsent(day, d -> new LongAdder()).increment();
+
+            eventPublisher.publishEvent(new DashboardDeltaEvent(1, Map.of(event.getStatus(), 1L),
+                    Map.of(event.getCompany(), 1L), recent ? 1 : 0));
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onApplicationStatusChanged(ApplicationStatusChangedEvent event) {
+        if (event.getFrom() == event.getTo()) {
+            return;
+        }
+
+        snapshotLock.readLock().lock();
+        try {
+            Counters current = counters;
+            current.byStatus.get(event.getFrom()).decrement();
+            current.byStatus.get(event.getTo()).increment();
+
+            Map<Application.Status, Long> statusDelta = new EnumMap<>(Application.Status.class);
+            statusDelta.put(event.getFrom(), -1L);
+            statusDelta.put(event.getTo(), 1L);
+            eventPublisher.publishEvent(new DashboardDeltaEvent(0, statusDelta, Map.of(), 0));
+        } finally {
+            snapshotLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 일별 집계 테이블로 카운터 재계산 (시작 시 1회 + 주기적)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${dashboard.statistics.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        dailyStatsService.ensureBackfilled();
+
+        Counters fresh = new Counters();
+
+        for (Object[] row : dailyStatRepository.sumGroupByStatusAndCompany()) {
+            Application.Status status = (Application.Status) row[0];
+            String company = (String) row[1];
+            long count = (Long) row[2];
+
+            fresh.total.add(count);
+            fresh.byStatus.get(status).add(count);
+            fresh.byCompany.computeIfAbsent(company, c -> new LongAdder()).add(count);
+        }
+
+        LocalDate today = LocalDate.now();
+        for (Object[] row : dailyStatRepository.sumGroupByDayAndStatus(today.minusDays(RECENT_DAYS - 1), today)) {
+            fresh.byDay.computeIfAbsent((LocalDate) row[0], d -> new LongAdder()).add((Long) row[2]);
+        }
+
+        fresh.totalUsers = userRepository.count();
+        fresh.reconciledAt = LocalDateTime.now();
+
+        snapshotLock.writeLock().lock();
+        try {
+            long drift = fresh.total.sum() - counters.total.sum();
+            if (drift != 0 && counters.reconciledAt != null) {
+                logger.info("대시보드 통계 대사: 전체 지원서 수 {}건 보정", drift);
+            }
+
+            boolean changed = !withoutReconciledAt(buildStatistics(counters))
+                    .equals(withoutReconciledAt(buildStatistics(fresh)));
+
+            counters = fresh;
+            if (changed) {
+                eventPublisher.publishEvent(DashboardDeltaEvent.reset());
+            }
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 대시보드 통계 (메모리 카운터만 읽음)
+     */
+    public Map<String, Object> getStatistics() {
+        return buildStatistics(counters);
+    }
+
+    /**
+     * 대시보드 통계 스냅샷 + 같은 시점에 실행할 작업 (잠금 안에서 실행)
+     * - 실시간 대시보드: 스냅샷 시점까지 발행된 변화량을 함께 정리해서 새 구독자에게 중복 전송되지 않도록 함
+     */
+    public Map<String, Object> getStatistics(Consumer<Map<String, Object>> atSnapshot) {
+        snapshotLock.writeLock().lock();
+        try {
+            Map<String, Object> statistics = buildStatistics(counters);
+            atSnapshot.accept(statistics);
+            return statistics;
+        } finally {
+            snapshotLock.writeLock().unlock();
+        }
+    }
+
+    private Map<String, Object> buildStatistics(Counters current) {
+
+        Map<String, Long> statusStats = new HashMap<>();
+        current.byStatus.forEach((status, count) -> statusStats.put(status.name(), count.sum()));
+
+        Map<String, Object> companyStats = new HashMap<>();
+        current.byCompany.forEach((company, count) -> {
+            long sum = count.sum();
+            if (sum > 0) {
+                companyStats.put(company, sum);
+            }
+        });
+
+        LocalDate firstDay = LocalDate.now().minusDays(RECENT_DAYS - 1);
+        long recent = current.byDay.entrySet().stream()
+                .filter(entry -> !entry.getKey().isBefore(firstDay))
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalApplications", current.total.sum());
+        statistics.put("totalUsers", current.totalUsers);
+        statistics.put("statusStats", statusStats);
+        statistics.put("companyStats", companyStats);
+        statistics.put("recentApplicationsCount", recent);
+        statistics.put("reconciledAt", current.reconciledAt);
+        return statistics;
+    }
+
+    private static Map<String, Object> withoutReconciledAt(Map<String, Object> statistics) {
+        statistics.remove("reconciledAt");
+        return statistics;
+    }
+
+    // 카운터 묶음 (교체 단위)
+    private static class Counters {
+        private final LongAdder total = new LongAdder();
+        private final Map<Application.Status, LongAdder> byStatus = new EnumMap<>(Application.Status.class);
+        private final ConcurrentMap<String, LongAdder> byCompany = new ConcurrentHashMap<>();
+        private final ConcurrentMap<LocalDate, LongAdder> byDay = new ConcurrentHashMap<>();
+        private volatile long totalUsers;
+        private volatile LocalDateTime reconciledAt;
+
+        private Counters() {
+            for (Application.Status status : Application.Status.values()) {
+                byStatus.put(status, new LongAdder());
+            }
+        }
+    }
+}
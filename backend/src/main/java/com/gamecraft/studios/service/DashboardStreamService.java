@@ -0,0 +1,272 @@
+package com.gamecraft.studios.service;
+
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.event.DashboardDeltaEvent;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실시간 관리자 대시보드 (Server-Sent Events)
+ * - 연결 직후 통계 스냅샷 1번, 이후에는 카운터 변화량만 전송
+ * - 구독자는 SseEmitter(비동기 요청)로만 유지 → 열린 탭 수만큼 서블릿 스레드를 잡지 않음
+ * - 브로드캐스터 스레드 하나가 주기마다 쌓인 변화량을 합쳐 한 메시지로 만들고 구독자별 큐에 넣음
+ * - 실제 전송은 전송 스레드 풀이 구독자별로 처리 → 느린 탭 하나가 다른 구독자 전송을 막지 않음
+ * - 큐가 가득 찬(따라오지 못하는) 구독자는 연결을 닫음 - 변화량은 누적값이라 일부만 버릴 수 없음, 재연결 시 새 스냅샷
+ */
+@Service
+public class DashboardStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStreamService.class);
+
+    private final DashboardStatisticsService dashboardStatisticsService;
+    private final long emitterTimeoutMs;
+    private final long heartbeatIntervalMs;
+    private final int maxSubscribers;
+    private final int subscriberQueueSize;
+
+    // 브로드캐스터 스레드만 접근
+    private final List<Subscriber> subscribers = new ArrayList<>();
+    private final Queue<Subscriber> pendingSubscribers = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    // 이벤트 리스너 스레드 → 브로드캐스터 스레드
+    private final Queue<DashboardDeltaEvent> pendingDeltas = new ConcurrentLinkedQueue<>();
+
+    private final ScheduledExecutorService broadcaster = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "dashboard-stream-broadcaster");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final ExecutorService senders;
+
+    private long lastSentAt = System.currentTimeMillis();
+
+    public DashboardStreamService(DashboardStatisticsService dashboardStatisticsService,
+                                  @Value("${dashboard.stream.timeout-ms:1800000}") long emitterTimeoutMs,
+                                  @Value("${dashboard.stream.broadcast-interval-ms:1000}") long broadcastIntervalMs,
+                                  @Value("${dashboard.stream.heartbeat-interval-ms:15000}") long heartbeatIntervalMs,
+                                  @Value("${dashboard.stream.max-subscribers:500}") int maxSubscribers,
+                                  @Value("${dashboard.stream.sender-threads:4}") int senderThreads,
+                                  @Value("${dashboard.stream.subscriber-queue-size:32}") int subscriberQueueSize) {
+        this.dashboardStatisticsService = dashboardStatisticsService;
+        this.emitterTimeoutMs = emitterTimeoutMs;
+        this.heartbeatIntervalMs = heartbeatIntervalMs;
+        this.maxSubscribers = maxSubscribers;
+        this.subscriberQueueSize = subscriberQueueSize;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.senders = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "dashboard-stream-sender-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        broadcaster.scheduleWithFixedDelay(this::broadcast, broadcastIntervalMs, broadcastIntervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 구독 등록 (스냅샷은 다음 전송 주기에 브로드캐스터 스레드에서 전송)
+     * @return 구독자 수 한도를 넘으면 null
+     */
+    public SseEmitter subscribe() {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            return null;
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(emitterTimeoutMs), subscriberQueueSize);
+        subscriber.emitter.onCompletion(() -> close(subscriber));
+        subscriber.emitter.onTimeout(() -> close(subscriber));
+        subscriber.emitter.onError(error -> close(subscriber));
+
+        pendingSubscribers.add(subscriber);
+        return subscriber.emitter;
+    }
+
+    @EventListener
+    public void onDashboardDelta(DashboardDeltaEvent event) {
+        pendingDeltas.add(event);
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void close(Subscriber subscriber) {
+        if (subscriber.closed.compareAndSet(false, true)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    // 브로드캐스터 스레드에서만 실행
+    private void broadcast() {
+        try {
+            subscribers.removeIf(subscriber -> subscriber.closed.get());
+
+            // 스냅샷을 뜨는 순간까지 쌓인 변화량은 스냅샷에 이미 반영됨 → 기존 구독자에게만 전송
+            List<DashboardDeltaEvent> deltas = new ArrayList<>();
+            List<Subscriber> joining = new ArrayList<>();
+            Map<String, Object> snapshot = null;
+
+            if (pendingSubscribers.isEmpty()) {
+                drainTo(deltas);
+            } else {
+                snapshot = dashboardStatisticsService.getStatistics(statistics -> {
+                    drainTo(deltas);
+                    for (Subscriber subscriber; (subscriber = pendingSubscribers.poll()) != null; ) {
+                        joining.add(subscriber);
+                    }
+                });
+            }
+
+            boolean reset = deltas.stream().anyMatch(DashboardDeltaEvent::isReset);
+            if (reset) {
+                // 카운터가 통째로 바뀜 → 모두에게 새 스냅샷
+                joining.addAll(0, subscribers);
+                subscribers.clear();
+                if (snapshot == null) {
+                    snapshot = dashboardStatisticsService.getStatistics(statistics -> drainTo(new ArrayList<>()));
+                }
+            } else if (!deltas.isEmpty()) {
+                sendToAll(SseEmitter.event().name("delta").data(merge(deltas), MediaType.APPLICATION_JSON));
+            } else if (System.currentTimeMillis() - lastSentAt >= heartbeatIntervalMs) {
+                // 프록시/로드밸런서 유휴 연결 종료 방지 + 끊긴 클라이언트 정리
+                sendToAll(SseEmitter.event().comment("heartbeat"));
+            }
+
+            if (!joining.isEmpty()) {
+                Set<ResponseBodyEmitter.DataWithMediaType> snapshotEvent =
+                        SseEmitter.event().name("snapshot").data(snapshot, MediaType.APPLICATION_JSON).build();
+                for (Subscriber subscriber : joining) {
+                    if (enqueue(subscriber, snapshotEvent)) {
+                        subscribers.add(subscriber);
+                    }
+                }
+            }
+        } catch (Exception e) {
+            logger.warn("대시보드 실시간 전송 실패", e);
+        }
+    }
+
+    private void drainTo(List<DashboardDeltaEvent> deltas) {
+        for (DashboardDeltaEvent delta; (delta = pendingDeltas.poll()) != null; ) {
+            deltas.add(delta);
+        }
+    }
+
+    // 이벤트는 한 번만 직렬화해서 모든 구독자에게 같은 내용 전송
+    private void sendToAll(SseEmitter.SseEventBuilder event) {
+        Set<ResponseBodyEmitter.DataWithMediaType> data = event.build();
+        subscribers.removeIf(subscriber -> !enqueue(subscriber, data));
+        lastSentAt = System.currentTimeMillis();
+    }
+
+    // 브로드캐스터 스레드는 큐에 넣기만 함 (소켓 쓰기로 막히지 않음)
+    // 큐가 가득 찼으면 닫힘 처리만 하고, 연결 종료는 진행 중인 전송이 끝난 뒤 전송 스레드가 처리
+    private boolean enqueue(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> data) {
+        if (subscriber.closed.get()) {
+            return false;
+        }
+        if (!subscriber.outbox.offer(data)) {
+            logger.debug("대시보드 구독자가 전송을 따라오지 못해 연결 종료 (대기 {}건)", subscriber.outbox.size());
+            close(subscriber);
+            return false;
+        }
+        if (subscriber.draining.compareAndSet(false, true)) {
+            senders.execute(() -> drain(subscriber));
+        }
+        return true;
+    }
+
+    // 전송 스레드: 구독자 하나의 큐를 비움 (구독자당 동시에 하나만 실행 → 순서 유지)
+    private void drain(Subscriber subscriber) {
+        do {
+            for (Set<ResponseBodyEmitter.DataWithMediaType> data; (data = subscriber.outbox.poll()) != null; ) {
+                if (subscriber.closed.get() || !send(subscriber, data)) {
+                    subscriber.outbox.clear();
+                    subscriber.emitter.complete();
+                    return;
+                }
+            }
+            subscriber.draining.set(false);
+            // 플래그를 내린 사이에 들어온 메시지는 여기서 이어서 처리 (브로드캐스터가 새 작업을 넣지 않았을 때만)
+        } while (!subscriber.outbox.isEmpty() && subscriber.draining.compareAndSet(false, true));
+    }
+
+    // 전송 실패(연결 끊김)한 구독자는 정리 대상 - 요청 종료는 서블릿 컨테이너가 처리
+    private boolean send(Subscriber subscriber, Set<ResponseBodyEmitter.DataWithMediaType> data) {
+        try {
+            subscriber.emitter.send(data);
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            close(subscriber);
+            return false;
+        }
+    }
+
+    // 주기 동안 쌓인 변화량 합산 (getStatistics()와 같은 키 구조)
+    private Map<String, Object> merge(List<DashboardDeltaEvent> deltas) {
+        long total = 0;
+        long recent = 0;
+        Map<String, Long> statusStats = new HashMap<>();
+        Map<String, Long> companyStats = new HashMap<>();
+
+        for (DashboardDeltaEvent delta : deltas) {
+            total += delta.getTotalApplications();
+            recent += delta.getRecentApplicationsCount();
+            for (Map.Entry<Application.Status, Long> entry : delta.getStatusStats().entrySet()) {
+                statusStats.merge(entry.getKey().name(), entry.getValue(), Long::sum);
+            }
+            delta.getCompanyStats().forEach((company, count) -> companyStats.merge(company, count, Long::sum));
+        }
+        statusStats.values().removeIf(count -> count == 0);
+        companyStats.values().removeIf(count -> count == 0);
+
+        Map<String, Object> merged = new HashMap<>();
+        merged.put("totalApplications", total);
+        merged.put("statusStats", statusStats);
+        merged.put("companyStats", companyStats);
+        merged.put("recentApplicationsCount", recent);
+        return merged;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        broadcaster.shutdownNow();
+        senders.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    private static class Subscriber {
+        private final SseEmitter emitter;
+        private final AtomicBoolean closed = new AtomicBoolean();
+        // 아직 보내지 못한 메시지 (상한 있음)
+        private final Queue<Set<ResponseBodyEmitter.DataWithMediaType>> outbox;
+        // 전송 스레드가 이 구독자의 큐를 처리 중인지
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter, int queueSize) {
+            this.emitter = emitter;
+            this.outbox = new ArrayBlockingQueue<>(queueSize);
+        }
+    }
+}
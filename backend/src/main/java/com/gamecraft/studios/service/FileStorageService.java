@@ -0,0 +1,300 @@
+package com.gamecraft.studios.service;
+
+import com.gamecraft.studios.util.FileUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumSet;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Stream;
+
+/**
+ * 업로드 파일 저장소 (file.upload.directory)
+ * - 업로드 본문은 메모리에 모으지 않고 스트림으로 임시 파일에 기록한 뒤 최종 위치로 원자적 이동
+ *   → 저장 중 실패/중단돼도 최종 경로에 반쪽짜리 파일이 생기지 않음
+ * - 내용 주소 저장: 파일 경로가 SHA-256으로 정해지므로 같은 내용은 한 번만 저장됨 (참조 수는 stored_files)
+ * - 미디어 처리 결과물(썸네일 등)도 원본 SHA-256 아래(media/ab/cd/{sha256}/)에 두고 원본과 함께 삭제
+ * - 파일 형식은 앞부분 매직 바이트로 판별해서 종류(이력서/포트폴리오)별 허용 형식만 저장
+ */
+@Service
+public class FileStorageService {
+
+    private static final Logger logger = LoggerFactory.getLogger(FileStorageService.class);
+
+    private static final String INCOMING_DIRECTORY = ".incoming";
+    private static final String OBJECT_DIRECTORY = "objects";
+    private static final String MEDIA_DIRECTORY = "media";
+
+    public enum Kind {
+        RESUME(EnumSet.of(FileUtil.FileType.PDF, FileUtil.FileType.DOCX, FileUtil.FileType.DOC,
+                FileUtil.FileType.HWP)),
+        PORTFOLIO(EnumSet.of(FileUtil.FileType.PDF, FileUtil.FileType.PPTX, FileUtil.FileType.ZIP,
+                FileUtil.FileType.PNG, FileUtil.FileType.JPEG, FileUtil.FileType.GIF,
+                FileUtil.FileType.MP4, FileUtil.FileType.MOV, FileUtil.FileType.WEBM));
+
+        private final Set<FileUtil.FileType> allowedTypes;
+
+        Kind(Set<FileUtil.FileType> allowedTypes) {
+            this.allowedTypes = allowedTypes;
+        }
+
+        public boolean allows(FileUtil.FileType type) {
+            return allowedTypes.contains(type);
+        }
+
+        public String directory() {
+            return name().toLowerCase(Locale.ROOT);
+        }
+
+        /**
+         * @throws IllegalArgumentException resume / portfolio 이외의 값
+         */
+        public static Kind from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("파일 종류는 resume 또는 portfolio 입니다: " + value);
+            }
+        }
+    }
+
+    private final Path root;
+    private final Path incoming;
+    private final long resumeMaxBytes;
+    private final long portfolioMaxBytes;
+
+    public FileStorageService(@Value("${file.upload.directory:./uploads}") String directory,
+                              @Value("${file.upload.resume-max-size:10MB}") DataSize resumeMaxSize,
+                              @Value("${file.upload.portfolio-max-size:200MB}") DataSize portfolioMaxSize)
+            throws IOException {
+        this.root = Paths.get(directory).toAbsolutePath().normalize();
+        this.incoming = root.resolve(INCOMING_DIRECTORY);
+        this.resumeMaxBytes = resumeMaxSize.toBytes();
+        this.portfolioMaxBytes = portfolioMaxSize.toBytes();
+
+        Files.createDirectories(incoming);
+        deleteStaleIncomingFiles();
+    }
+
+    public long getMaxSize(Kind kind) {
+        return kind == Kind.RESUME ? resumeMaxBytes : portfolioMaxBytes;
+    }
+
+    /**
+     * 업로드 본문을 임시 파일로 받기 (SHA-256은 받는 동안 함께 계산 - 파일을 다시 읽지 않음)
+     * - 받은 임시 파일은 placeObject로 저장소에 넣거나 discard로 지움
+     *
+     * @throws MaxUploadSizeExceededException 종류별 최대 크기 초과
+     * @throws IllegalArgumentException       빈 파일, 허용하지 않는 형식
+     */
+    public StagedFile stage(Kind kind, MultipartFile file) throws IOException {
+        long maxSize = getMaxSize(kind);
+        if (file.getSize() > maxSize) {
+            throw new MaxUploadSizeExceededException(maxSize);
+        }
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("빈 파일입니다");
+        }
+
+        String originalFilename = FileUtil.sanitizeFilename(file.getOriginalFilename());
+        Path temp = Files.createTempFile(incoming, "upload-", ".part");
+        try {
+            MessageDigest digest = newSha256();
+            FileUtil.FileType type;
+            long size;
+            try (InputStream in = new DigestInputStream(file.getInputStream(), digest);
+                 OutputStream out = Files.newOutputStream(temp)) {
+                byte[] head = in.readNBytes(FileUtil.SNIFF_LENGTH);
+                type = FileUtil.sniff(head, originalFilename)
+                        .filter(kind::allows)
+                        .orElseThrow(() -> new IllegalArgumentException(
+                                "허용하지 않는 파일 형식입니다: " + originalFilename));
+                out.write(head);
+                size = head.length + in.transferTo(out);
+            }
+            if (size > maxSize) {
+                throw new MaxUploadSizeExceededException(maxSize);
+            }
+            return new StagedFile(temp, HexFormat.of().formatHex(digest.digest()), originalFilename, type, size);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    /**
+     * 받은 파일을 내용 주소(objects/ab/cd/{sha256})로 저장소에 넣기
+     * - 같은 내용이 이미 있으면 임시 파일만 지움 (디스크 사용량은 서로 다른 파일 수만큼만 늘어남)
+     *
+     * @return 새로 저장했으면 true
+     */
+    public boolean placeObject(StagedFile staged) throws IOException {
+        Path target = resolve(objectPath(staged.getSha256()));
+        if (Files.exists(target)) {
+            Files.deleteIfExists(staged.getTemp());
+            return false;
+        }
+        Files.createDirectories(target.getParent());
+        Files.move(staged.getTemp(), target, StandardCopyOption.ATOMIC_MOVE);
+        return true;
+    }
+
+    /**
+     * 저장소에 넣지 않은 임시 파일 삭제
+     */
+    public void discard(StagedFile staged) {
+        try {
+            Files.deleteIfExists(staged.getTemp());
+        } catch (IOException e) {
+            logger.warn("임시 업로드 파일 삭제 실패: {}", staged.getTemp());
+        }
+    }
+
+    public String objectPath(String sha256) {
+        return OBJECT_DIRECTORY + "/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+
+    // 원본 파일에서 만든 결과물 경로 (media/ab/cd/{sha256}/{fileName})
+    public String derivedPath(String sha256, String fileName) {
+        return derivedDirectory(sha256) + "/" + fileName;
+    }
+
+    /**
+     * 결과물을 쓸 임시 파일 (확장자로 형식을 정하는 도구가 있어서 suffix 지정)
+     */
+    public Path createIncomingFile(String suffix) throws IOException {
+        return Files.createTempFile(incoming, "media-", suffix);
+    }
+
+    /**
+     * 다 쓴 임시 파일을 최종 경로로 원자적 이동 (같은 경로에 이미 있으면 교체)
+     */
+    public void moveInto(Path temp, String path) throws IOException {
+        Path target = resolve(path);
+        Files.createDirectories(target.getParent());
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    /**
+     * 원본 파일의 결과물 전체 삭제 (실패해도 예외 없이 로그만)
+     */
+    public void deleteDerived(String sha256) {
+        Path directory = resolve(derivedDirectory(sha256));
+        if (!Files.isDirectory(directory)) {
+            return;
+        }
+        try (Stream<Path> files = Files.list(directory)) {
+            for (Path file : (Iterable<Path>) files::iterator) {
+                Files.deleteIfExists(file);
+            }
+            Files.deleteIfExists(directory);
+        } catch (IOException e) {
+            logger.warn("미디어 결과물 삭제 실패: {} - {}", directory, e.getMessage());
+        }
+    }
+
+    public boolean exists(String path) {
+        return Files.isRegularFile(resolve(path));
+    }
+
+    /**
+     * 상대 경로 → 실제 경로 (저장소 밖을 가리키는 경로는 거부)
+     */
+    public Path resolve(String path) {
+        Path resolved = root.resolve(path).normalize();
+        if (!resolved.startsWith(root) || resolved.startsWith(incoming)) {
+            throw new IllegalArgumentException("잘못된 파일 경로: " + path);
+        }
+        return resolved;
+    }
+
+    /**
+     * 파일 삭제 (실패해도 예외 없이 로그만)
+     */
+    public void delete(String path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(resolve(path));
+        } catch (IOException | IllegalArgumentException e) {
+            logger.warn("업로드 파일 삭제 실패: {} - {}", path, e.getMessage());
+        }
+    }
+
+    private static String derivedDirectory(String sha256) {
+        return MEDIA_DIRECTORY + "/" + sha256.substring(0, 2) + "/" + sha256.substring(2, 4) + "/" + sha256;
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // 저장 도중 프로세스가 죽어서 남은 임시 파일 정리 (1시간 이상 지난 것만)
+    private void deleteStaleIncomingFiles() throws IOException {
+        FileTime threshold = FileTime.from(Instant.now().minus(1, ChronoUnit.HOURS));
+        try (Stream<Path> files = Files.list(incoming)) {
+            files.filter(file -> {
+                try {
+                    return Files.getLastModifiedTime(file).compareTo(threshold) < 0;
+                } catch (IOException e) {
+                    return false;
+                }
+            }).forEach(file -> {
+                try {
+                    Files.deleteIfExists(file);
+                } catch (IOException e) {
+                    logger.warn("임시 업로드 파일 삭제 실패: {}", file);
+                }
+            });
+        }
+    }
+
+    // 받기만 하고 아직 저장소에 넣지 않은 업로드 파일
+    public static class StagedFile {
+        private final Path temp;
+        private final String sha256;
+        private final String originalFilename;
+        private final FileUtil.FileType type;
+        private final long size;
+
+        private StagedFile(Path temp, String sha256, String originalFilename, FileUtil.FileType type, long size) {
+            this.temp = temp;
+            this.sha256 = sha256;
+            this.originalFilename = originalFilename;
+            this.type = type;
+            this.size = size;
+        }
+
+        private Path getTemp() { return temp; }
+
+        public String getSha256() { return sha256; }
+
+        public String getOriginalFilename() { return originalFilename; }
+
+        public FileUtil.FileType getType() { return type; }
+
+        public long getSize() { return size; }
+    }
+}
@@ -0,0 +1,192 @@
+package com.gamecraft.studios.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamecraft.studios.config.OutboundHttpMetrics;
+import com.gamecraft.studios.dto.GitHubApiDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.*;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClientResponseException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GitHub REST API 클라이언트
+ * - 모든 호출은 GitHubCircuitBreaker 허가 + 클러스터 쿼터 예약 + GitHubRateLimiter 토큰을 얻은 뒤에만 실행
+ * - 캐시된 ETag가 있으면 If-None-Match로 재검증하고 304면 저장된 본문 재사용
+ */
+@Component
+public class GitHubApiClient {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubApiClient.class);
+
+    private final RestTemplate restTemplate;
+    private final GitHubRateLimiter rateLimiter;
+    private final GitHubCircuitBreaker circuitBreaker;
+    private final GitHubClusterCoordinator clusterCoordinator;
+    private final GitHubResponseCache responseCache;
+    private final ObjectMapper objectMapper;
+    private final OutboundHttpMetrics outboundHttpMetrics;
+
+    private final AtomicLong notModifiedResponses = new AtomicLong();
+    private final AtomicLong fullResponses = new AtomicLong();
+    private final AtomicLong quotaDeniedCalls = new AtomicLong();
+
+    @Value("${github.api.token:}")
+    private String githubToken;
+
+    @Value("${github.api.base-url:https://api.github.com}")
+    private String baseUrl;
+
+    public GitHubApiClient(RestTemplate restTemplate,
+                           GitHubRateLimiter rateLimiter,
+                           GitHubCircuitBreaker circuitBreaker,
+                           GitHubClusterCoordinator clusterCoordinator,
+                           GitHubResponseCache responseCache,
+                           ObjectMapper objectMapper,
+                           OutboundHttpMetrics outboundHttpMetrics) {
+        this.restTemplate = restTemplate;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.clusterCoordinator = clusterCoordinator;
+        this.responseCache = responseCache;
+        this.objectMapper = objectMapper;
+        this.outboundHttpMetrics = outboundHttpMetrics;
+    }
+
+    /**
+     * GitHub API 저장소 검색
+     */
+    public GitHubApiDto.SearchResponse searchRepositories(String query, int perPage) {
+        // 서킷이 열려 있거나 동시 호출이 가득 차면 기다리지 않고 바로 실패
+        GitHubCircuitBreaker.Permit permit = circuitBreaker.tryAcquire();
+        if (permit == null) {
+            return null;
+        }
+
+        // 여러 노드가 같은 토큰/IP 한도를 나눠 쓰므로 Redis 공용 쿼터에서 먼저 예약
+        if (!clusterCoordinator.reserveQuota()) {
+            logger.warn("클러스터 GitHub 쿼터 소진으로 검색 생략: {}", query);
+            quotaDeniedCalls.incrementAndGet();
+            circuitBreaker.onIgnored(permit);
+            return null;
+        }
+
+        try {
+            if (!rateLimiter.acquire()) {
+                logger.warn("GitHub API 호출 한도 소진으로 검색 생략: {}", query);
+                circuitBreaker.onIgnored(permit);
+                return null;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            circuitBreaker.onIgnored(permit);
+            return null;
+        }
+
+        HttpHeaders responseHeaders = null;
+        boolean failed = true;
+
+        try {
+            String url = String.format(
+                    "%s/search/repositories?q=%s&sort=stars&order=desc&per_page=%d",
+                    baseUrl, query, perPage
+            );
+
+            // 이전 응답의 ETag로 조건부 요청 (변경 없으면 304, 본문 없음)
+            ResponseEntity<String> response = exchange(url, responseCache.getEtag(url));
+            responseHeaders = response.getHeaders();
+
+            String body = null;
+            if (response.getStatusCode() == HttpStatus.NOT_MODIFIED) {
+                body = responseCache.getBody(url);
+                if (body != null) {
+                    notModifiedResponses.incrementAndGet();
+                } else {
+                    // ETag는 있는데 본문 파일이 지워진 경우 (용량 초과 정리, 파일 손상) → 조건 없이 다시 받아옴
+                    logger.debug("캐시 본문 없음, 전체 재요청: {}", url);
+                    response = exchange(url, null);
+                    responseHeaders = response.getHeaders();
+                }
+            }
+
+            if (body == null) {
+                body = response.getBody();
+                fullResponses.incrementAndGet();
+
+                String etag = response.getHeaders().getETag();
+                if (etag != null && body != null) {
+                    responseCache.put(url, etag, body);
+                }
+            }
+
+            failed = false;
+            return body != null ? objectMapper.readValue(body, GitHubApiDto.SearchResponse.class) : null;
+
+        } catch (RestClientResponseException e) {
+            // 403/429 응답에도 rate limit 헤더가 포함됨
+            responseHeaders = e.getResponseHeaders();
+            // 5xx/429만 장애로 집계 (그 외 4xx는 요청 문제이므로 서킷에 반영하지 않음)
+            failed = e.getStatusCode().is5xxServerError() || e.getStatusCode().value() == 429;
+            logger.error("GitHub API 호출 실패: {} ({})", query, e.getStatusCode());
+            return null;
+
+        } catch (Exception e) {
+            logger.error("GitHub API 호출 실패: " + query, e);
+            return null;
+
+        } finally {
+            rateLimiter.release(responseHeaders);
+            clusterCoordinator.recordRateLimit(responseHeaders);
+            if (failed) {
+                circuitBreaker.onFailure(permit);
+            } else {
+                circuitBreaker.onSuccess(permit);
+            }
+        }
+    }
+
+    private ResponseEntity<String> exchange(String url, String ifNoneMatch) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("Accept", "application/vnd.github.v3+json");
+        headers.set("User-Agent", "GameCraft-Studios");
+
+        // GitHub Token이 있으면 사용 (API 제한 증가)
+        if (githubToken != null && !githubToken.trim().isEmpty()) {
+            headers.set("Authorization", "token " + githubToken);
+        }
+
+        if (ifNoneMatch != null) {
+            headers.setIfNoneMatch(ifNoneMatch);
+        }
+
+        return restTemplate.exchange(url, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+    }
+
+    /**
+     * GitHub 장애로 서킷이 열려 있는지 (열려 있으면 호출 없이 마지막 스냅샷 사용)
+     */
+    public boolean isUnavailable() {
+        return circuitBreaker.isOpen();
+    }
+
+    public Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("notModifiedResponses", notModifiedResponses.get());
+        metrics.put("fullResponses", fullResponses.get());
+        metrics.put("cacheEntries", responseCache.getEntryCount());
+        metrics.put("cacheBytes", responseCache.getTotalBytes());
+        metrics.put("rateLimitRemaining", rateLimiter.getRemaining());
+        metrics.put("rateLimitResetAt", rateLimiter.getResetAtMillis());
+        metrics.put("clusterQuotaDenied", quotaDeniedCalls.get());
+        metrics.put("clusterRedisAvailable", clusterCoordinator.isRedisAvailable());
+        metrics.put("transport", outboundHttpMetrics.snapshot());
+        metrics.put("circuitBreaker", circuitBreaker.getMetrics());
+        return metrics;
+    }
+}
@@ -0,0 +1,212 @@
+package com.gamecraft.studios.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * GitHub 호출 서킷 브레이커 + 벌크헤드
+ * - 최근 N개 호출의 실패율이 임계값을 넘으면 OPEN → 일정 시간 동안 호출 없이 즉시 실패
+ * - OPEN 시간이 지나면 HALF_OPEN → 시험 호출 1건 성공 시 CLOSED, 실패 시 다시 OPEN
+ *   (HALF_OPEN 중에 끝난 이전 호출의 결과는 버림 - 시험 호출의 허가(Permit)만 상태를 바꿈)
+ * - 동시 호출 수를 세마포어로 제한해서 GitHub 지연이 요청 스레드를 잡아두지 않도록 함
+ */
+@Component
+public class GitHubCircuitBreaker {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubCircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRateThreshold;
+    private final long openDurationMs;
+    private final long bulkheadWaitMs;
+    private final Semaphore bulkhead;
+
+    // 최근 호출 결과 (원형 버퍼)
+    private final boolean[] outcomes;
+    private int outcomeIndex;
+    private int recordedCalls;
+    private int failedCalls;
+
+    private State state = State.CLOSED;
+    private long openedAtMillis;
+    private boolean probeInFlight;
+
+    private final AtomicLong rejectedCalls = new AtomicLong();
+
+    public GitHubCircuitBreaker(@Value("${github.circuit-breaker.window-size:20}") int windowSize,
+                                @Value("${github.circuit-breaker.minimum-calls:5}") int minimumCalls,
+                                @Value("${github.circuit-breaker.failure-rate-threshold:50}") int failureRateThreshold,
+                                @Value("${github.circuit-breaker.open-duration-ms:60000}") long openDurationMs,
+                                @Value("${github.circuit-breaker.max-concurrent-calls:16}") int maxConcurrentCalls,
+                                @Value("${github.circuit-breaker.bulkhead-wait-ms:500}") long bulkheadWaitMs) {
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openDurationMs = openDurationMs;
+        this.bulkheadWaitMs = bulkheadWaitMs;
+        this.bulkhead = new Semaphore(maxConcurrentCalls);
+        this.outcomes = new boolean[windowSize];
+    }
+
+    /**
+     * 호출 허가 - 서킷이 열려 있거나 벌크헤드가 가득 차면 null (즉시 실패)
+     * 허가를 받은 호출은 반드시 그 허가로 onSuccess/onFailure/onIgnored 중 하나를 호출해야 함
+     */
+    public Permit tryAcquire() {
+        Permit permit = allowByState();
+        if (permit == null) {
+            rejectedCalls.incrementAndGet();
+            return null;
+        }
+
+        try {
+            if (bulkhead.tryAcquire(bulkheadWaitMs, TimeUnit.MILLISECONDS)) {
+                return permit;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+
+        releaseProbe(permit);
+        rejectedCalls.incrementAndGet();
+        return null;
+    }
+
+    public void onSuccess(Permit permit) {
+        bulkhead.release();
+        record(permit, false);
+    }
+
+    public void onFailure(Permit permit) {
+        bulkhead.release();
+        record(permit, true);
+    }
+
+    /**
+     * 호출하지 않고 끝난 경우 (예: rate limit 대기 초과) - 결과는 기록하지 않음
+     */
+    public void onIgnored(Permit permit) {
+        bulkhead.release();
+        releaseProbe(permit);
+    }
+
+    /**
+     * 호출 없이 빠르게 건너뛰어야 하는지 (OPEN 상태, 대기 시간 미경과)
+     */
+    public synchronized boolean isOpen() {
+        return state == State.OPEN && System.currentTimeMillis() - openedAtMillis < openDurationMs;
+    }
+
+    private synchronized Permit allowByState() {
+        if (state == State.OPEN) {
+            if (System.currentTimeMillis() - openedAtMillis < openDurationMs) {
+                return null;
+            }
+            state = State.HALF_OPEN;
+            logger.info("GitHub 서킷 HALF_OPEN - 시험 호출 허용");
+        }
+
+        if (state == State.HALF_OPEN) {
+            if (probeInFlight) {
+                return null;
+            }
+            probeInFlight = true;
+            return Permit.PROBE;
+        }
+
+        return Permit.NORMAL;
+    }
+
+    // 시험 호출의 허가일 때만 - 이전 호출이 끝나면서 진행 중인 시험 호출 표시를 지우지 않도록
+    private synchronized void releaseProbe(Permit permit) {
+        if (permit.isProbe()) {
+            probeInFlight = false;
+        }
+    }
+
+    private synchronized void record(Permit permit, boolean failed) {
+        if (state == State.HALF_OPEN) {
+            // 서킷이 열리기 전에 허가된 호출 - 시험 결과가 아니므로 버림
+            if (!permit.isProbe()) {
+                return;
+            }
+            probeInFlight = false;
+            if (failed) {
+                open();
+            } else {
+                close();
+            }
+            return;
+        }
+
+        if (recordedCalls == windowSize && outcomes[outcomeIndex]) {
+            failedCalls--;
+        }
+        outcomes[outcomeIndex] = failed;
+        outcomeIndex = (outcomeIndex + 1) % windowSize;
+        recordedCalls = Math.min(recordedCalls + 1, windowSize);
+        if (failed) {
+            failedCalls++;
+        }
+
+        if (state == State.CLOSED && recordedCalls >= minimumCalls
+                && failedCalls * 100 >= failureRateThreshold * recordedCalls) {
+            open();
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAtMillis = System.currentTimeMillis();
+        logger.warn("GitHub 서킷 OPEN - {}ms 동안 호출 차단 (최근 {}건 중 {}건 실패)",
+                openDurationMs, recordedCalls, failedCalls);
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        recordedCalls = 0;
+        failedCalls = 0;
+        outcomeIndex = 0;
+        logger.info("GitHub 서킷 CLOSED - 호출 재개");
+    }
+
+    /**
+     * 호출 허가 - HALF_OPEN에서 받은 시험 호출 허가인지 구분
+     */
+    public static final class Permit {
+
+        private static final Permit NORMAL = new Permit(false);
+        private static final Permit PROBE = new Permit(true);
+
+        private final boolean probe;
+
+        private Permit(boolean probe) {
+            this.probe = probe;
+        }
+
+        public boolean isProbe() { return probe; }
+    }
+
+    public synchronized Map<String, Object> getMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("state", state);
+        metrics.put("recentCalls", recordedCalls);
+        metrics.put("recentFailures", failedCalls);
+        metrics.put("rejectedCalls", rejectedCalls.get());
+        metrics.put("availableConcurrentCalls", bulkhead.availablePermits());
+        return metrics;
+    }
+}
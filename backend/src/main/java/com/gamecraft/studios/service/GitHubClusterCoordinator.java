@@ -0,0 +1,278 @@
+package com.gamecraft.studios.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamecraft.studios.dto.GitHubApiDto;
+import com.gamecraft.studios.dto.TechStackSnapshot;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 백엔드 노드 간 GitHub API 사용 조율 (Redis)
+ * - 쿼터 원장: 모든 노드가 호출 전에 Redis에서 원자적으로 호출 건수를 예약
+ * - 리더 선출: 리더 노드 하나만 GitHub을 조회하고 결과 스냅샷을 Redis에 공유
+ * - Redis를 쓸 수 없으면 단일 노드처럼 동작 (로컬 제한기만 사용)
+ */
+@Component
+public class GitHubClusterCoordinator {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubClusterCoordinator.class);
+
+    private static final String QUOTA_KEY_PREFIX = "github:quota:";
+    private static final String RATE_LIMIT_KEY = "github:rate-limit";
+    private static final String LEADER_KEY = "github:refresh:leader";
+    private static final String SNAPSHOT_KEY_PREFIX = "github:snapshot:";
+
+    // 윈도우 내 예약 건수 + GitHub이 알려준 남은 호출 수를 함께 확인 후 예약
+    private static final DefaultRedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+            "local remaining = redis.call('HGET', KEYS[2], 'remaining') " +
+            "local reset = redis.call('HGET', KEYS[2], 'reset') " +
+            "if remaining and reset and tonumber(remaining) <= 0 and tonumber(reset) > tonumber(ARGV[3]) then return 0 end " +
+            "local count = redis.call('INCR', KEYS[1]) " +
+            "if count == 1 then redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "if count > tonumber(ARGV[1]) then redis.call('DECR', KEYS[1]) return 0 end " +
+            "return 1",
+            Long.class);
+
+    // 내가 리더일 때만 TTL 연장
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end " +
+            "return 0",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final int quotaPerWindow;
+    private final long quotaWindowMs;
+    private final long leaderTtlMs;
+    private final String nodeId;
+
+    private volatile boolean leader;
+    // 마지막으로 선점/연장에 성공한 시점 + TTL - 연장이 늦어지면 Redis 키가 만료되기 전에 스스로 리더에서 내려옴
+    private volatile long leaderUntilMillis;
+    private volatile boolean redisAvailable = true;
+
+    // 리더 연장 전용 스레드 - 공용 @Scheduled 스레드의 다른 작업(스냅샷 갱신 등)이 길어져도 연장이 밀리지 않도록
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "github-leader-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public GitHubClusterCoordinator(StringRedisTemplate redisTemplate,
+                                    ObjectMapper objectMapper,
+                                    @Value("${github.cluster.enabled:true}") boolean enabled,
+                                    @Value("${github.cluster.quota-per-window:30}") int quotaPerWindow,
+                                    @Value("${github.cluster.quota-window-ms:60000}") long quotaWindowMs,
+                                    @Value("${github.cluster.leader-ttl-ms:30000}") long leaderTtlMs,
+                                    @Value("${github.cluster.heartbeat-ms:10000}") long heartbeatMs) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.quotaPerWindow = quotaPerWindow;
+        this.quotaWindowMs = quotaWindowMs;
+        this.leaderTtlMs = leaderTtlMs;
+        this.nodeId = resolveHostName() + ":" + UUID.randomUUID().toString().substring(0, 8);
+
+        if (enabled) {
+            heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat, 0, heartbeatMs, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 클러스터 공용 쿼터에서 호출 1건 예약
+     * @return 쿼터가 없으면 false (Redis 장애 시에는 항상 true)
+     */
+    public boolean reserveQuota() {
+        if (!enabled) {
+            return true;
+        }
+
+        try {
+            long now = System.currentTimeMillis();
+            String quotaKey = QUOTA_KEY_PREFIX + (now / quotaWindowMs);
+            Long reserved = redisTemplate.execute(RESERVE_SCRIPT,
+                    List.of(quotaKey, RATE_LIMIT_KEY),
+                    String.valueOf(quotaPerWindow), String.valueOf(quotaWindowMs), String.valueOf(now / 1000));
+            markRedis(true);
+            return reserved == null || reserved == 1L;
+        } catch (RuntimeException e) {
+            markRedis(false);
+            return true;
+        }
+    }
+
+    /**
+     * GitHub 응답의 rate limit 헤더를 클러스터에 공유
+     */
+    public void recordRateLimit(HttpHeaders headers) {
+        if (!enabled || headers == null) {
+            return;
+        }
+
+        String remaining = headers.getFirst("X-RateLimit-Remaining");
+        String reset = headers.getFirst("X-RateLimit-Reset");
+        if (remaining == null || reset == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.opsForHash().put(RATE_LIMIT_KEY, "remaining", remaining);
+            redisTemplate.opsForHash().put(RATE_LIMIT_KEY, "reset", reset);
+            redisTemplate.expire(RATE_LIMIT_KEY, Duration.ofHours(1));
+            markRedis(true);
+        } catch (RuntimeException e) {
+            markRedis(false);
+        }
+    }
+
+    /**
+     * 리더 여부 - 리더만 GitHub을 조회하고 나머지는 공유 스냅샷을 읽음
+     */
+    public boolean isLeader() {
+        if (!enabled || !redisAvailable) {
+            return true;
+        }
+        return leader && System.currentTimeMillis() < leaderUntilMillis;
+    }
+
+    /**
+     * 리더 선점/연장 (리더 TTL보다 짧은 주기로 전용 스레드에서 실행)
+     */
+    void heartbeat() {
+        try {
+            long startedAt = System.currentTimeMillis();
+            String ttl = String.valueOf(leaderTtlMs);
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEADER_KEY), nodeId, ttl);
+            boolean nowLeader = renewed != null && renewed == 1L;
+
+            if (!nowLeader) {
+                Boolean acquired = redisTemplate.opsForValue()
+                        .setIfAbsent(LEADER_KEY, nodeId, Duration.ofMillis(leaderTtlMs));
+                nowLeader = Boolean.TRUE.equals(acquired);
+            }
+
+            if (nowLeader != leader) {
+                logger.info("GitHub 갱신 리더 {}: {}", nowLeader ? "획득" : "상실", nodeId);
+            }
+            leaderUntilMillis = startedAt + leaderTtlMs;
+            leader = nowLeader;
+            markRedis(true);
+
+        } catch (RuntimeException e) {
+            markRedis(false);
+        }
+    }
+
+    /**
+     * 리더가 갱신한 스냅샷을 Redis에 공유
+     */
+    public void publishSnapshot(String key, TechStackSnapshot snapshot) {
+        if (!enabled || snapshot.getTechStacks().isEmpty()) {
+            return;
+        }
+
+        try {
+            SharedSnapshot shared = new SharedSnapshot();
+            shared.setFetchedAt(snapshot.getFetchedAt().toEpochMilli());
+            shared.setTechStacks(snapshot.getTechStacks());
+            Map<String, Long> carriedOver = new HashMap<>();
+            snapshot.getCarriedOver().forEach((name, fetchedAt) -> carriedOver.put(name, fetchedAt.toEpochMilli()));
+            shared.setCarriedOver(carriedOver);
+            redisTemplate.opsForValue().set(SNAPSHOT_KEY_PREFIX + key, objectMapper.writeValueAsString(shared));
+            markRedis(true);
+        } catch (Exception e) {
+            markRedis(false);
+        }
+    }
+
+    /**
+     * 공유 스냅샷 조회 (없거나 Redis 장애면 null)
+     */
+    public TechStackSnapshot readSnapshot(String key) {
+        if (!enabled) {
+            return null;
+        }
+
+        try {
+            String json = redisTemplate.opsForValue().get(SNAPSHOT_KEY_PREFIX + key);
+            markRedis(true);
+            if (json == null) {
+                return null;
+            }
+            SharedSnapshot shared = objectMapper.readValue(json, SharedSnapshot.class);
+            Map<String, Instant> carriedOver = new HashMap<>();
+            if (shared.getCarriedOver() != null) {
+                shared.getCarriedOver().forEach((name, fetchedAt) -> carriedOver.put(name, Instant.ofEpochMilli(fetchedAt)));
+            }
+            return new TechStackSnapshot(shared.getTechStacks(), Instant.ofEpochMilli(shared.getFetchedAt()), carriedOver);
+        } catch (Exception e) {
+            markRedis(false);
+            return null;
+        }
+    }
+
+    private void markRedis(boolean available) {
+        if (redisAvailable != available) {
+            if (available) {
+                logger.info("Redis 연결 복구 - 클러스터 쿼터/리더 선출 재개");
+            } else {
+                logger.warn("Redis 사용 불가 - 단일 노드 모드로 GitHub 호출");
+            }
+        }
+        redisAvailable = available;
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+
+    public String getNodeId() { return nodeId; }
+
+    public boolean isEnabled() { return enabled; }
+
+    public boolean isRedisAvailable() { return redisAvailable; }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    // Redis에 저장되는 공유 스냅샷
+    public static class SharedSnapshot {
+        private long fetchedAt;
+        private List<GitHubApiDto.TechStack> techStacks;
+        private Map<String, Long> carriedOver;
+
+        public long getFetchedAt() { return fetchedAt; }
+        public void setFetchedAt(long fetchedAt) { this.fetchedAt = fetchedAt; }
+
+        public List<GitHubApiDto.TechStack> getTechStacks() { return techStacks; }
+        public void setTechStacks(List<GitHubApiDto.TechStack> techStacks) { this.techStacks = techStacks; }
+
+        public Map<String, Long> getCarriedOver() { return carriedOver; }
+        public void setCarriedOver(Map<String, Long> carriedOver) { this.carriedOver = carriedOver; }
+    }
+}
@@ -0,0 +1,86 @@
+package com.gamecraft.studios.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+
+/**
+ * GitHub API 호출 제한기 (토큰 버킷)
+ * - 버킷 크기/리필 시점은 고정값이 아니라 GitHub 응답 헤더(X-RateLimit-Remaining / X-RateLimit-Reset)로 동기화
+ * - 진행 중인 호출 수만큼 토큰을 미리 차감해서 병렬 호출 시에도 한도를 넘지 않도록 함
+ */
+@Component
+public class GitHubRateLimiter {
+
+    private static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+    private static final String HEADER_RESET = "X-RateLimit-Reset";
+    private static final int UNKNOWN = -1;
+
+    private final long maxWaitMs;
+
+    // 서버가 알려준 남은 호출 수 (UNKNOWN이면 아직 모름 → 제한 없이 허용)
+    private int remaining = UNKNOWN;
+    private long resetAtMillis;
+    private int inFlight;
+
+    public GitHubRateLimiter(@Value("${github.rate-limit.max-wait-ms:10000}") long maxWaitMs) {
+        this.maxWaitMs = maxWaitMs;
+    }
+
+    /**
+     * 호출 토큰 획득 - 토큰이 없으면 리셋 시점까지(최대 maxWaitMs) 대기
+     * @return 토큰을 얻지 못하면 false
+     */
+    public synchronized boolean acquire() throws InterruptedException {
+        long deadline = System.currentTimeMillis() + maxWaitMs;
+
+        while (true) {
+            long now = System.currentTimeMillis();
+
+            // 리셋 시점이 지나면 버킷 리필 (다음 응답 헤더로 다시 동기화)
+            if (remaining != UNKNOWN && now >= resetAtMillis) {
+                remaining = UNKNOWN;
+            }
+
+            if (remaining == UNKNOWN || remaining - inFlight > 0) {
+                inFlight++;
+                return true;
+            }
+
+            long waitMs = Math.min(resetAtMillis, deadline) - now;
+            if (waitMs <= 0) {
+                return false;
+            }
+            wait(waitMs);
+        }
+    }
+
+    /**
+     * 호출 완료 - 응답 헤더가 있으면 남은 호출 수/리셋 시점 갱신
+     */
+    public synchronized void release(HttpHeaders headers) {
+        inFlight = Math.max(0, inFlight - 1);
+
+        if (headers != null) {
+            String remainingHeader = headers.getFirst(HEADER_REMAINING);
+            String resetHeader = headers.getFirst(HEADER_RESET);
+
+            try {
+                if (remainingHeader != null && resetHeader != null) {
+                    remaining = Integer.parseInt(remainingHeader.trim());
+                    resetAtMillis = Long.parseLong(resetHeader.trim()) * 1000;
+                }
+            } catch (NumberFormatException ignored) {
+                // 헤더 형식이 이상하면 기존 값 유지
+            }
+        }
+
+        notifyAll();
+    }
+
+    public synchronized int getRemaining() { return remaining; }
+
+    public synchronized long getResetAtMillis() { return resetAtMillis; }
+
+    public synchronized int getInFlight() { return inFlight; }
+}
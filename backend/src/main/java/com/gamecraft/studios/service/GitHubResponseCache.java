@@ -0,0 +1,236 @@
+package com.gamecraft.studios.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * GitHub 응답 디스크 캐시 (ETag 기반 조건부 요청용)
+ * - 요청 URL 별로 ETag + 응답 본문을 파일 하나에 저장
+ * - 재시작 후에도 유지되어 새로 뜬 노드가 GitHub 전체 재조회를 하지 않음
+ * - 전체 크기가 상한을 넘으면 가장 오래 사용되지 않은 항목부터 삭제
+ */
+@Component
+public class GitHubResponseCache {
+
+    private static final Logger logger = LoggerFactory.getLogger(GitHubResponseCache.class);
+    private static final String FILE_SUFFIX = ".json";
+
+    private final ObjectMapper objectMapper;
+    private final Path directory;
+    private final long maxBytes;
+
+    // 메모리에는 메타데이터(ETag, 크기)만 보관하고 본문은 디스크에서 읽음
+    private final ConcurrentMap<String, EntryMeta> index = new ConcurrentHashMap<>();
+    private final AtomicLong totalBytes = new AtomicLong();
+
+    public GitHubResponseCache(ObjectMapper objectMapper,
+                               @Value("${github.cache.directory:./cache/github}") String directory,
+                               @Value("${github.cache.max-size-mb:50}") long maxSizeMb) {
+        this.objectMapper = objectMapper;
+        this.directory = Paths.get(directory);
+        this.maxBytes = maxSizeMb * 1024 * 1024;
+    }
+
+    @PostConstruct
+    public void load() {
+        try {
+            Files.createDirectories(directory);
+
+            try (Stream<Path> files = Files.list(directory)) {
+                files.filter(file -> file.getFileName().toString().endsWith(FILE_SUFFIX))
+                        .forEach(this::loadEntry);
+            }
+
+            logger.info("GitHub 응답 캐시 로드: {}개 항목, {}KB", index.size(), totalBytes.get() / 1024);
+
+        } catch (IOException e) {
+            logger.warn("GitHub 응답 캐시 디렉토리 초기화 실패: " + directory, e);
+        }
+    }
+
+    private void loadEntry(Path file) {
+        try {
+            CachedResponse cached = objectMapper.readValue(file.toFile(), CachedResponse.class);
+            long size = Files.size(file);
+            index.put(cached.getUrl(), new EntryMeta(fileFor(cached.getUrl()), cached.getEtag(), size));
+            totalBytes.addAndGet(size);
+        } catch (IOException e) {
+            logger.warn("손상된 캐시 파일 삭제: {}", file);
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * 저장된 ETag 조회 (없으면 null)
+     */
+    public String getEtag(String url) {
+        EntryMeta meta = index.get(url);
+        return meta != null ? meta.etag : null;
+    }
+
+    /**
+     * 저장된 응답 본문 조회 - 304 응답을 받았을 때 사용
+     */
+    public String getBody(String url) {
+        EntryMeta meta = index.get(url);
+        if (meta == null) {
+            return null;
+        }
+
+        try {
+            CachedResponse cached = objectMapper.readValue(meta.file.toFile(), CachedResponse.class);
+            Files.setLastModifiedTime(meta.file, FileTime.fromMillis(System.currentTimeMillis()));
+            return cached.getBody();
+        } catch (IOException e) {
+            logger.warn("캐시 본문 읽기 실패: {}", url);
+            remove(url);
+            return null;
+        }
+    }
+
+    /**
+     * 응답 저장 (임시 파일에 쓴 뒤 원자적으로 교체)
+     */
+    public void put(String url, String etag, String body) {
+        Path file = fileFor(url);
+        Path temp = null;
+        boolean moved = false;
+
+        try {
+            CachedResponse cached = new CachedResponse(url, etag, body);
+            byte[] bytes = objectMapper.writeValueAsString(cached).getBytes(StandardCharsets.UTF_8);
+
+            temp = Files.createTempFile(directory, "entry-", ".tmp");
+            Files.write(temp, bytes);
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            moved = true;
+
+            EntryMeta previous = index.put(url, new EntryMeta(file, etag, bytes.length));
+            totalBytes.addAndGet(bytes.length - (previous != null ? previous.sizeBytes : 0));
+
+            evictIfNeeded();
+
+        } catch (IOException e) {
+            logger.warn("GitHub 응답 캐시 저장 실패: {}", url, e);
+        } finally {
+            // 쓰기/이동 실패 (디스크 가득 참 등) 시 임시 파일이 남지 않도록
+            if (temp != null && !moved) {
+                try {
+                    Files.deleteIfExists(temp);
+                } catch (IOException e) {
+                    logger.warn("GitHub 응답 캐시 임시 파일 삭제 실패: {}", temp);
+                }
+            }
+        }
+    }
+
+    private void remove(String url) {
+        EntryMeta meta = index.remove(url);
+        if (meta != null) {
+            totalBytes.addAndGet(-meta.sizeBytes);
+            deleteQuietly(meta.file);
+        }
+    }
+
+    /**
+     * 용량 초과 시 마지막 사용 시각(파일 수정 시각)이 오래된 순으로 삭제
+     */
+    private synchronized void evictIfNeeded() {
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+
+        List<String> urlsByLastUse = index.keySet().stream()
+                .sorted(Comparator.comparingLong(url -> lastModified(index.get(url))))
+                .toList();
+
+        for (String url : urlsByLastUse) {
+            if (totalBytes.get() <= maxBytes) {
+                break;
+            }
+            remove(url);
+        }
+    }
+
+    private long lastModified(EntryMeta meta) {
+        try {
+            return meta != null ? Files.getLastModifiedTime(meta.file).toMillis() : 0;
+        } catch (IOException e) {
+            return 0;
+        }
+    }
+
+    private Path fileFor(String url) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(url.getBytes(StandardCharsets.UTF_8));
+            return directory.resolve(HexFormat.of().formatHex(hash) + FILE_SUFFIX);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException ignored) {
+        }
+    }
+
+    public int getEntryCount() { return index.size(); }
+
+    public long getTotalBytes() { return totalBytes.get(); }
+
+    private static class EntryMeta {
+        private final Path file;
+        private final String etag;
+        private final long sizeBytes;
+
+        EntryMeta(Path file, String etag, long sizeBytes) {
+            this.file = file;
+            this.etag = etag;
+            this.sizeBytes = sizeBytes;
+        }
+    }
+
+    // 디스크에 저장되는 캐시 항목
+    public static class CachedResponse {
+        private String url;
+        private String etag;
+        private String body;
+
+        public CachedResponse() {}
+
+        public CachedResponse(String url, String etag, String body) {
+            this.url = url;
+            this.etag = etag;
+            this.body = body;
+        }
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+
+        public String getEtag() { return etag; }
+        public void setEtag(String etag) { this.etag = etag; }
+
+        public String getBody() { return body; }
+        public void setBody(String body) { this.body = body; }
+    }
+}
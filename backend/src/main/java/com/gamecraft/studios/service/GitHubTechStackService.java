@@ -1,14 +1,23 @@
 package com.gamecraft.studios.service;
 
 import com.gamecraft.studios.dto.GitHubApiDto;
+import com.gamecraft.studios.dto.TechStackSnapshot;
+import com.gamecraft.studios.util.SingleFlight;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import jakarta.annotation.PreDestroy;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -16,10 +25,23 @@ public class GitHubTechStackService {
 
     private static final Logger logger = LoggerFactory.getLogger(GitHubTechStackService.class);
 
-    private final RestTemplate restTemplate;
+    private final GitHubApiClient gitHubApiClient;
+    private final TechStackSnapshotStore snapshotStore;
+    private final GitHubClusterCoordinator clusterCoordinator;
+    private final Duration refreshInterval;
 
-    @Value("${github.api.token:}")
-    private String githubToken;
+    // 리더가 마지막으로 Redis에 공유한 스냅샷 조회 시각
+    private final Map<String, Instant> publishedAt = new ConcurrentHashMap<>();
+
+    // GitHub 검색 병렬 실행용 (스레드 수/대기열 모두 상한 있음)
+    private final ThreadPoolExecutor fanOutExecutor;
+    private final long fanOutTimeoutMs;
+
+    // 같은 조회가 동시에 들어오면 GitHub 호출은 한 번만 (콜드 스타트/스케줄러/재검증 공통)
+    private final SingleFlight<String, List<GitHubApiDto.TechStack>> fetchGroup = new SingleFlight<>();
+
+    // 진행 중인 트렌딩 검색 (스트리밍 구독자와 fetchGroup 조회가 함께 사용)
+    private final AtomicReference<TrendingFanOut> trendingFanOut = new AtomicReference<>();
 
     // 주요 기술 스택 정의 (카카오게임즈 맞춤)
     private static final Map<String, String> TECH_CATEGORIES = Map.of(
@@ -44,157 +66,389 @@ public class GitHubTechStackService {
             "Next.js", "nextjs"
     );
 
-    public GitHubTechStackService() {
-        this.restTemplate = new RestTemplate();
+    public GitHubTechStackService(GitHubApiClient gitHubApiClient,
+                                  TechStackSnapshotStore snapshotStore,
+                                  GitHubClusterCoordinator clusterCoordinator,
+                                  @Value("${github.snapshot.refresh-interval-ms:600000}") long refreshIntervalMs,
+                                  @Value("${github.fan-out.threads:16}") int fanOutThreads,
+                                  @Value("${github.fan-out.queue-capacity:64}") int fanOutQueueCapacity,
+                                  @Value("${github.fan-out.timeout-ms:30000}") long fanOutTimeoutMs) {
+        this.gitHubApiClient = gitHubApiClient;
+        this.snapshotStore = snapshotStore;
+        this.clusterCoordinator = clusterCoordinator;
+        this.refreshInterval = Duration.ofMillis(refreshIntervalMs);
+        this.fanOutTimeoutMs = fanOutTimeoutMs;
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.fanOutExecutor = new ThreadPoolExecutor(
+                fanOutThreads, fanOutThreads, 60, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(fanOutQueueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "github-fan-out-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        this.fanOutExecutor.allowCoreThreadTimeOut(true);
     }
 
     /**
-     * GitHub에서 인기 기술 스택 조회
+     * 인기 기술 스택 스냅샷 (메모리에서 즉시 응답)
+     */
+    public TechStackSnapshot getTrendingSnapshot() {
+        return getSnapshot(TechStackSnapshotStore.TRENDING, this::loadTrendingTechStacks);
+    }
+
+    /**
+     * 현재 메모리에 있는 트렌딩 스냅샷 (없으면 null, 조회/갱신 없음)
+     */
+    public TechStackSnapshot peekTrendingSnapshot() {
+        return snapshotStore.peek(TechStackSnapshotStore.TRENDING);
+    }
+
+    /**
+     * 게임 업계 추천 기술 스냅샷 (메모리에서 즉시 응답)
      */
+    public TechStackSnapshot getGameIndustrySnapshot() {
+        return getSnapshot(TechStackSnapshotStore.GAME_INDUSTRY, this::loadGameIndustryRecommendedStacks);
+    }
+
+    private TechStackSnapshot getSnapshot(String key, Supplier<List<GitHubApiDto.TechStack>> loader) {
+        // 팔로워 노드의 콜드 스타트는 리더가 공유한 스냅샷으로 (조회 시각 유지)
+        if (snapshotStore.peek(key) == null && !clusterCoordinator.isLeader()) {
+            pullSharedSnapshot(key);
+        }
+        return snapshotStore.get(key, loader);
+    }
+
     public List<GitHubApiDto.TechStack> getTrendingTechStacks() {
-        logger.info("GitHub API에서 트렌딩 기술 스택 조회 시작");
+        return getTrendingSnapshot().getTechStacks();
+    }
 
-        List<GitHubApiDto.TechStack> allTechStacks = new ArrayList<>();
+    public List<GitHubApiDto.TechStack> getGameIndustryRecommendedStacks() {
+        return getGameIndustrySnapshot().getTechStacks();
+    }
 
-        // 1. 프로그래밍 언어별 인기도 조회
-        allTechStacks.addAll(getLanguageStats());
+    /**
+     * 스냅샷 주기적 갱신 (요청 경로에서 GitHub API를 호출하지 않도록)
+     * 여러 노드가 떠 있으면 리더만 GitHub을 조회
+     */
+    @Scheduled(initialDelayString = "${github.snapshot.initial-delay-ms:0}",
+            fixedDelayString = "${github.snapshot.refresh-interval-ms:600000}")
+    public void refreshSnapshots() {
+        if (!clusterCoordinator.isLeader()) {
+            return;
+        }
+        // 검색은 갱신 전용 스레드에서 실행 (공용 스케줄러 스레드를 검색 시간 동안 잡아두지 않음)
+        snapshotStore.refreshAsync(TechStackSnapshotStore.TRENDING, this::loadTrendingTechStacks,
+                snapshot -> publishIfNew(TechStackSnapshotStore.TRENDING, snapshot));
+        snapshotStore.refreshAsync(TechStackSnapshotStore.GAME_INDUSTRY, this::loadGameIndustryRecommendedStacks,
+                snapshot -> publishIfNew(TechStackSnapshotStore.GAME_INDUSTRY, snapshot));
+    }
 
-        // 2. 프레임워크/라이브러리 인기도 조회
-        allTechStacks.addAll(getFrameworkStats());
+    /**
+     * 클러스터 스냅샷 동기화
+     * - 리더: 새로 갱신된 스냅샷을 Redis에 공유, 리더가 된 직후 스냅샷이 오래됐으면 즉시 갱신
+     * - 팔로워: Redis의 스냅샷이 더 새로우면 가져옴
+     */
+    @Scheduled(initialDelayString = "${github.cluster.sync-interval-ms:30000}",
+            fixedDelayString = "${github.cluster.sync-interval-ms:30000}")
+    public void syncWithCluster() {
+        if (!clusterCoordinator.isEnabled()) {
+            return;
+        }
 
-        // 3. 인기도 순으로 정렬
-        return allTechStacks.stream()
-                .sorted((a, b) -> Long.compare(b.getPopularityScore(), a.getPopularityScore()))
-                .collect(Collectors.toList());
+        for (String key : List.of(TechStackSnapshotStore.TRENDING, TechStackSnapshotStore.GAME_INDUSTRY)) {
+            if (!clusterCoordinator.isLeader()) {
+                pullSharedSnapshot(key);
+                continue;
+            }
+
+            TechStackSnapshot snapshot = snapshotStore.peek(key);
+            if (snapshot == null || snapshot.isOlderThan(refreshInterval)) {
+                snapshotStore.refreshAsync(key, TechStackSnapshotStore.TRENDING.equals(key)
+                        ? this::loadTrendingTechStacks
+                        : this::loadGameIndustryRecommendedStacks);
+            } else {
+                publishIfNew(key, snapshot);
+            }
+        }
+    }
+
+    // 리더가 아직 공유하지 않은 스냅샷만 Redis에 공유
+    private void publishIfNew(String key, TechStackSnapshot snapshot) {
+        if (snapshot == null || !clusterCoordinator.isEnabled() || !clusterCoordinator.isLeader()) {
+            return;
+        }
+        if (!snapshot.getFetchedAt().equals(publishedAt.get(key))) {
+            clusterCoordinator.publishSnapshot(key, snapshot);
+            publishedAt.put(key, snapshot.getFetchedAt());
+        }
+    }
+
+    private void pullSharedSnapshot(String key) {
+        TechStackSnapshot shared = clusterCoordinator.readSnapshot(key);
+        if (shared != null && snapshotStore.replace(key, shared)) {
+            logger.debug("공유 스냅샷 반영: {} ({}초 전 조회)", key, shared.getAgeSeconds());
+        }
     }
 
     /**
-     * 프로그래밍 언어 통계
+     * 트렌딩 기술 스택 스트리밍 - 결과가 나오는 대로 하나씩 전달
+     * - 스냅샷이 있으면 메모리에서 바로 전달 (오래됐으면 백그라운드 재검증만 요청)
+     * - 스냅샷이 없으면 진행 중인 트렌딩 검색에 구독 (동시에 연결한 스트림/콜드 조회가 검색 하나를 공유)
+     * @return 인기도 순으로 정렬된 전체 결과
      */
-    private List<GitHubApiDto.TechStack> getLanguageStats() {
-        List<GitHubApiDto.TechStack> languageStats = new ArrayList<>();
+    public CompletableFuture<List<GitHubApiDto.TechStack>> streamTrendingTechStacks(
+            Consumer<GitHubApiDto.TechStack> onTechStack) {
+
+        if (snapshotStore.peek(TechStackSnapshotStore.TRENDING) != null || gitHubApiClient.isUnavailable()
+                || !clusterCoordinator.isLeader()) {
+            List<GitHubApiDto.TechStack> techStacks = getTrendingTechStacks();
+            techStacks.forEach(onTechStack);
+            return CompletableFuture.completedFuture(techStacks);
+        }
 
-        for (Map.Entry<String, String> entry : TECH_CATEGORIES.entrySet()) {
-            try {
-                String language = entry.getKey();
-                String category = entry.getValue();
+        return joinTrendingFanOut(true).subscribe(onTechStack);
+    }
 
-                // GitHub에서 해당 언어의 인기 저장소 검색
-                String searchQuery = String.format("language:%s stars:>1000", language.toLowerCase());
-                GitHubApiDto.SearchResponse response = searchRepositories(searchQuery, 10);
+    // 진행 중인 트렌딩 검색이 있으면 합류, 없으면 새로 시작
+    // storeResult: 스트림이 시작한 검색은 끝나면 직접 스냅샷에 저장 (스냅샷 저장소 경로로 시작한 검색은 저장소가 저장)
+    private TrendingFanOut joinTrendingFanOut(boolean storeResult) {
+        while (true) {
+            TrendingFanOut current = trendingFanOut.get();
+            if (current != null) {
+                return current;
+            }
+            TrendingFanOut created = new TrendingFanOut();
+            if (trendingFanOut.compareAndSet(null, created)) {
+                startTrendingFanOut(created, storeResult);
+                return created;
+            }
+        }
+    }
 
-                if (response != null && !response.getItems().isEmpty()) {
-                    // 총 스타 수 계산
-                    long totalStars = response.getItems().stream()
-                            .mapToLong(GitHubApiDto.Repository::getStargazersCount)
-                            .sum();
+    private void startTrendingFanOut(TrendingFanOut fanOut, boolean storeResult) {
+        logger.info("GitHub API에서 트렌딩 기술 스택 조회 시작");
 
-                    int repoCount = response.getTotalCount();
+        List<Supplier<GitHubApiDto.TechStack>> searches = new ArrayList<>();
 
-                    GitHubApiDto.TechStack techStack = new GitHubApiDto.TechStack(
-                            language, category, totalStars, repoCount
-                    );
+        // 1. 프로그래밍 언어별 인기도 조회
+        searches.addAll(languageSearches());
 
-                    // 설명 추가
-                    String topRepo = response.getItems().get(0).getName();
-                    techStack.setDescription(String.format("대표 프로젝트: %s (★%,d)",
-                            topRepo, response.getItems().get(0).getStargazersCount()));
+        // 2. 프레임워크/라이브러리 인기도 조회
+        searches.addAll(frameworkSearches());
+
+        List<CompletableFuture<GitHubApiDto.TechStack>> futures = searches.stream()
+                .map(search -> CompletableFuture.supplyAsync(search, fanOutExecutor)
+                        .whenComplete((techStack, error) -> {
+                            if (techStack != null) {
+                                fanOut.publish(techStack);
+                            }
+                        }))
+                .toList();
+
+        CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                .exceptionally(error -> null)
+                .completeOnTimeout(null, fanOutTimeoutMs, TimeUnit.MILLISECONDS)
+                .whenComplete((ignored, error) -> {
+                    // 3. 인기도 순으로 정렬
+                    List<GitHubApiDto.TechStack> techStacks = futures.stream()
+                            .filter(future -> future.isDone() && !future.isCompletedExceptionally())
+                            .map(CompletableFuture::join)
+                            .filter(Objects::nonNull)
+                            .sorted((a, b) -> Long.compare(b.getPopularityScore(), a.getPopularityScore()))
+                            .collect(Collectors.toList());
+
+                    try {
+                        if (storeResult) {
+                            snapshotStore.refresh(TechStackSnapshotStore.TRENDING, () -> techStacks);
+                        }
+                    } catch (RuntimeException e) {
+                        logger.warn("트렌딩 스냅샷 저장 실패", e);
+                    } finally {
+                        trendingFanOut.compareAndSet(fanOut, null);
+                        fanOut.complete(techStacks);
+                    }
+                });
+    }
 
-                    languageStats.add(techStack);
+    /**
+     * GitHub 조회 병합 현황 (실제 실행 vs 병합된 호출 수)
+     */
+    public Map<String, Object> getFetchMetrics() {
+        Map<String, Object> metrics = new HashMap<>();
+        metrics.put("originatedFetches", fetchGroup.getOriginatedCalls());
+        metrics.put("coalescedFetches", fetchGroup.getCoalescedCalls());
+        metrics.put("inFlightFetches", fetchGroup.getInFlightCount());
+        metrics.put("client", gitHubApiClient.getMetrics());
+        return metrics;
+    }
 
-                    logger.info("언어 통계 수집: {} - 총 {}개 저장소, {}만 스타",
-                            language, repoCount, totalStars / 10000);
-                }
+    /**
+     * GitHub 장애(서킷 OPEN) 여부 - 이 동안은 마지막 스냅샷으로 응답
+     */
+    public boolean isGitHubUnavailable() {
+        return gitHubApiClient.isUnavailable();
+    }
 
-                // API 호출 제한 고려 (5000 requests/hour)
-                Thread.sleep(200);
+    // 팔로워 노드는 공유 스냅샷만 반영, 서킷이 열려 있으면 GitHub을 호출하지 않음 → 빈 결과라 기존 스냅샷 유지
+    private List<GitHubApiDto.TechStack> loadTrendingTechStacks() {
+        if (!clusterCoordinator.isLeader()) {
+            pullSharedSnapshot(TechStackSnapshotStore.TRENDING);
+            return List.of();
+        }
+        if (gitHubApiClient.isUnavailable()) {
+            return List.of();
+        }
+        return fetchGroup.execute(TechStackSnapshotStore.TRENDING, this::fetchTrendingTechStacks);
+    }
 
-            } catch (Exception e) {
-                logger.warn("언어 통계 수집 실패: " + entry.getKey(), e);
-            }
+    private List<GitHubApiDto.TechStack> loadGameIndustryRecommendedStacks() {
+        if (!clusterCoordinator.isLeader()) {
+            pullSharedSnapshot(TechStackSnapshotStore.GAME_INDUSTRY);
+            return List.of();
         }
+        if (gitHubApiClient.isUnavailable()) {
+            return List.of();
+        }
+        return fetchGroup.execute(TechStackSnapshotStore.GAME_INDUSTRY, this::fetchGameIndustryRecommendedStacks);
+    }
 
-        return languageStats;
+    /**
+     * GitHub에서 인기 기술 스택 조회
+     * - 언어/프레임워크 검색을 한 번에 병렬 실행 (가장 느린 호출 하나 만큼만 소요)
+     * - 스트림이 이미 시작한 검색이 있으면 그 결과를 기다림
+     */
+    private List<GitHubApiDto.TechStack> fetchTrendingTechStacks() {
+        return joinTrendingFanOut(false).subscribe(techStack -> { }).join();
     }
 
     /**
-     * 프레임워크/라이브러리 통계
+     * 카카오게임즈 맞춤 기술 스택 추천
      */
-    private List<GitHubApiDto.TechStack> getFrameworkStats() {
-        List<GitHubApiDto.TechStack> frameworkStats = new ArrayList<>();
+    private List<GitHubApiDto.TechStack> fetchGameIndustryRecommendedStacks() {
+        return fanOut(gameIndustrySearches());
+    }
 
-        for (Map.Entry<String, String> entry : FRAMEWORK_SEARCHES.entrySet()) {
-            try {
-                String frameworkName = entry.getKey();
-                String searchTerm = entry.getValue();
+    /**
+     * 검색 작업 병렬 실행 - 전체 제한 시간 안에 끝난 결과만 수집
+     */
+    private List<GitHubApiDto.TechStack> fanOut(List<Supplier<GitHubApiDto.TechStack>> searches) {
+        List<CompletableFuture<GitHubApiDto.TechStack>> futures = searches.stream()
+                .map(search -> CompletableFuture.supplyAsync(search, fanOutExecutor))
+                .toList();
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(fanOutTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            logger.warn("GitHub 검색 일부가 제한 시간({}ms) 안에 끝나지 않음", fanOutTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            logger.warn("GitHub 검색 실행 오류", e);
+        }
+
+        return futures.stream()
+                .filter(future -> future.isDone() && !future.isCompletedExceptionally())
+                .map(CompletableFuture::join)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
 
-                // 프레임워크 관련 저장소 검색
-                String searchQuery = String.format("%s stars:>500", searchTerm);
-                GitHubApiDto.SearchResponse response = searchRepositories(searchQuery, 5);
+    /**
+     * 프로그래밍 언어 통계 검색 작업
+     */
+    private List<Supplier<GitHubApiDto.TechStack>> languageSearches() {
+        return TECH_CATEGORIES.entrySet().stream()
+                .<Supplier<GitHubApiDto.TechStack>>map(entry ->
+                        () -> searchLanguageStats(entry.getKey(), entry.getValue()))
+                .toList();
+    }
 
-                if (response != null && !response.getItems().isEmpty()) {
-                    // 평균 스타 수 계산
-                    double avgStars = response.getItems().stream()
-                            .mapToLong(GitHubApiDto.Repository::getStargazersCount)
-                            .average()
-                            .orElse(0);
+    private GitHubApiDto.TechStack searchLanguageStats(String language, String category) {
+        try {
+            // GitHub에서 해당 언어의 인기 저장소 검색
+            String searchQuery = String.format("language:%s stars:>1000", language.toLowerCase());
+            GitHubApiDto.SearchResponse response = gitHubApiClient.searchRepositories(searchQuery, 10);
 
-                    String category = categorizeFramework(frameworkName);
+            if (response == null || response.getItems() == null || response.getItems().isEmpty()) {
+                return null;
+            }
 
-                    GitHubApiDto.TechStack techStack = new GitHubApiDto.TechStack(
-                            frameworkName, category, (long) avgStars, response.getTotalCount()
-                    );
+            // 총 스타 수 계산
+            long totalStars = response.getItems().stream()
+                    .mapToLong(GitHubApiDto.Repository::getStargazersCount)
+                    .sum();
 
-                    // 설명 추가
-                    String description = String.format("평균 ★%.0f, %,d+ 프로젝트",
-                            avgStars, response.getTotalCount());
-                    techStack.setDescription(description);
+            int repoCount = response.getTotalCount();
 
-                    frameworkStats.add(techStack);
+            GitHubApiDto.TechStack techStack = new GitHubApiDto.TechStack(
+                    language, category, totalStars, repoCount
+            );
 
-                    logger.info("프레임워크 통계 수집: {} - 평균 {:.0f} 스타",
-                            frameworkName, avgStars);
-                }
+            // 설명 추가
+            String topRepo = response.getItems().get(0).getName();
+            techStack.setDescription(String.format("대표 프로젝트: %s (★%,d)",
+                    topRepo, response.getItems().get(0).getStargazersCount()));
 
-                Thread.sleep(200);
+            logger.info("언어 통계 수집: {} - 총 {}개 저장소, {}만 스타",
+                    language, repoCount, totalStars / 10000);
 
-            } catch (Exception e) {
-                logger.warn("프레임워크 통계 수집 실패: " + entry.getKey(), e);
-            }
-        }
+            return techStack;
 
-        return frameworkStats;
+        } catch (Exception e) {
+            logger.warn("언어 통계 수집 실패: " + language, e);
+            return null;
+        }
     }
 
     /**
-     * GitHub API 저장소 검색
+     * 프레임워크/라이브러리 통계 검색 작업
      */
-    private GitHubApiDto.SearchResponse searchRepositories(String query, int perPage) {
-        try {
-            String url = String.format(
-                    "https://api.github.com/search/repositories?q=%s&sort=stars&order=desc&per_page=%d",
-                    query, perPage
-            );
+    private List<Supplier<GitHubApiDto.TechStack>> frameworkSearches() {
+        return FRAMEWORK_SEARCHES.entrySet().stream()
+                .<Supplier<GitHubApiDto.TechStack>>map(entry ->
+                        () -> searchFrameworkStats(entry.getKey(), entry.getValue()))
+                .toList();
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("Accept", "application/vnd.github.v3+json");
-            headers.set("User-Agent", "GameCraft-Studios");
+    private GitHubApiDto.TechStack searchFrameworkStats(String frameworkName, String searchTerm) {
+        try {
+            // 프레임워크 관련 저장소 검색
+            String searchQuery = String.format("%s stars:>500", searchTerm);
+            GitHubApiDto.SearchResponse response = gitHubApiClient.searchRepositories(searchQuery, 5);
 
-            // GitHub Token이 있으면 사용 (API 제한 증가)
-            if (githubToken != null && !githubToken.trim().isEmpty()) {
-                headers.set("Authorization", "token " + githubToken);
+            if (response == null || response.getItems() == null || response.getItems().isEmpty()) {
+                return null;
             }
 
-            HttpEntity<String> entity = new HttpEntity<>(headers);
+            // 평균 스타 수 계산
+            double avgStars = response.getItems().stream()
+                    .mapToLong(GitHubApiDto.Repository::getStargazersCount)
+                    .average()
+                    .orElse(0);
+
+            String category = categorizeFramework(frameworkName);
 
-            ResponseEntity<GitHubApiDto.SearchResponse> response = restTemplate.exchange(
-                    url, HttpMethod.GET, entity, GitHubApiDto.SearchResponse.class
+            GitHubApiDto.TechStack techStack = new GitHubApiDto.TechStack(
+                    frameworkName, category, (long) avgStars, response.getTotalCount()
             );
 
-            return response.getBody();
+            // 설명 추가
+            String description = String.format("평균 ★%.0f, %,d+ 프로젝트",
+                    avgStars, response.getTotalCount());
+            techStack.setDescription(description);
+
+            logger.info("프레임워크 통계 수집: {} - 평균 {} 스타",
+                    frameworkName, String.format("%.0f", avgStars));
+
+            return techStack;
 
         } catch (Exception e) {
-            logger.error("GitHub API 호출 실패: " + query, e);
+            logger.warn("프레임워크 통계 수집 실패: " + frameworkName, e);
             return null;
         }
     }
@@ -210,11 +464,9 @@ public class GitHubTechStackService {
     }
 
     /**
-     * 카카오게임즈 맞춤 기술 스택 추천
+     * 게임 업계 핵심 기술 검색 작업
      */
-    public List<GitHubApiDto.TechStack> getGameIndustryRecommendedStacks() {
-        List<GitHubApiDto.TechStack> gameStacks = new ArrayList<>();
-
+    private List<Supplier<GitHubApiDto.TechStack>> gameIndustrySearches() {
         // 게임 업계 핵심 기술들 GitHub에서 검색
         Map<String, String> gameKeywords = Map.of(
                 "게임 서버", "game server java",
@@ -224,31 +476,85 @@ public class GitHubTechStackService {
                 "Unity 연동", "unity backend"
         );
 
-        for (Map.Entry<String, String> entry : gameKeywords.entrySet()) {
-            try {
-                GitHubApiDto.SearchResponse response = searchRepositories(entry.getValue(), 3);
+        return gameKeywords.entrySet().stream()
+                .<Supplier<GitHubApiDto.TechStack>>map(entry ->
+                        () -> searchGameTech(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+
+    private GitHubApiDto.TechStack searchGameTech(String name, String keyword) {
+        try {
+            GitHubApiDto.SearchResponse response = gitHubApiClient.searchRepositories(keyword, 3);
+
+            if (response == null || response.getItems() == null || response.getItems().isEmpty()) {
+                return null;
+            }
 
-                if (response != null && !response.getItems().isEmpty()) {
-                    long avgStars = (long) response.getItems().stream()
-                            .mapToLong(GitHubApiDto.Repository::getStargazersCount)
-                            .average()
-                            .orElse(0);
+            long avgStars = (long) response.getItems().stream()
+                    .mapToLong(GitHubApiDto.Repository::getStargazersCount)
+                    .average()
+                    .orElse(0);
 
-                    GitHubApiDto.TechStack techStack = new GitHubApiDto.TechStack(
-                            entry.getKey(), "GAME_TECH", avgStars, response.getTotalCount()
-                    );
+            GitHubApiDto.TechStack techStack = new GitHubApiDto.TechStack(
+                    name, "GAME_TECH", avgStars, response.getTotalCount()
+            );
 
-                    techStack.setDescription("게임 업계 추천 기술");
-                    gameStacks.add(techStack);
-                }
+            techStack.setDescription("게임 업계 추천 기술");
+            return techStack;
 
-                Thread.sleep(200);
+        } catch (Exception e) {
+            logger.warn("게임 기술 검색 실패: " + name, e);
+            return null;
+        }
+    }
 
-            } catch (Exception e) {
-                logger.warn("게임 기술 검색 실패: " + entry.getKey(), e);
+    @PreDestroy
+    public void shutdown() {
+        fanOutExecutor.shutdownNow();
+    }
+
+    /**
+     * 진행 중인 트렌딩 검색 하나 - 도착한 결과를 기록해 두고 늦게 구독한 스트림에도 처음부터 전달
+     * 전달(SSE 전송)은 잠금 밖에서 실행해서 느린 구독자가 다른 검색 결과 기록을 막지 않음
+     */
+    private static class TrendingFanOut {
+
+        private final List<GitHubApiDto.TechStack> arrived = new ArrayList<>();
+        private final List<Consumer<GitHubApiDto.TechStack>> subscribers = new ArrayList<>();
+        private final CompletableFuture<List<GitHubApiDto.TechStack>> result = new CompletableFuture<>();
+
+        CompletableFuture<List<GitHubApiDto.TechStack>> subscribe(Consumer<GitHubApiDto.TechStack> subscriber) {
+            List<GitHubApiDto.TechStack> replay;
+            synchronized (this) {
+                replay = List.copyOf(arrived);
+                subscribers.add(subscriber);
             }
+            replay.forEach(techStack -> deliver(subscriber, techStack));
+            return result;
         }
 
-        return gameStacks;
+        void publish(GitHubApiDto.TechStack techStack) {
+            List<Consumer<GitHubApiDto.TechStack>> targets;
+            synchronized (this) {
+                arrived.add(techStack);
+                targets = List.copyOf(subscribers);
+            }
+            targets.forEach(subscriber -> deliver(subscriber, techStack));
+        }
+
+        void complete(List<GitHubApiDto.TechStack> techStacks) {
+            synchronized (this) {
+                subscribers.clear();
+            }
+            result.complete(techStacks);
+        }
+
+        private static void deliver(Consumer<GitHubApiDto.TechStack> subscriber, GitHubApiDto.TechStack techStack) {
+            try {
+                subscriber.accept(techStack);
+            } catch (RuntimeException e) {
+                logger.debug("트렌딩 스트림 구독자 전달 실패: {}", e.getMessage());
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,377 @@
+package com.gamecraft.studios.service;
+
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.entity.MediaJob;
+import com.gamecraft.studios.entity.StoredFile;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import com.gamecraft.studios.repository.MediaJobRepository;
+import com.gamecraft.studios.repository.StoredFileRepository;
+import com.gamecraft.studios.util.FileUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 포트폴리오 미디어 처리 (ffmpeg) - 썸네일 / 짧은 미리보기 / 720p 변환본
+ * - 업로드 요청은 media_jobs에 작업만 등록하고 바로 응답, 처리는 백그라운드 워커가 담당
+ * - 워커 수만큼만 작업을 가져옴 (빈 워커가 없으면 가져가지 않음) → 밀린 작업은 메모리가 아니라 DB에서 대기
+ * - 여러 노드가 같은 테이블에서 FOR UPDATE SKIP LOCKED로 나눠 가져가고, 처리 중 죽은 작업은 임대 시간이 지나면 재시도
+ * - 결과물은 원본 SHA-256 기준으로 저장 → 같은 내용은 한 번만 처리
+ */
+@Service
+public class MediaProcessingService {
+
+    private static final Logger logger = LoggerFactory.getLogger(MediaProcessingService.class);
+
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    public enum Variant {
+        THUMBNAIL("thumbnail.jpg", "image/jpeg"),
+        PREVIEW("preview.mp4", "video/mp4"),
+        TRANSCODED("720p.mp4", "video/mp4");
+
+        private final String fileName;
+        private final String contentType;
+
+        Variant(String fileName, String contentType) {
+            this.fileName = fileName;
+            this.contentType = contentType;
+        }
+
+        public String getFileName() { return fileName; }
+
+        public String getContentType() { return contentType; }
+
+        // 파일 형식별로 만드는 결과물 (영상: 전부, 이미지: 썸네일만)
+        public static List<Variant> of(FileUtil.FileType type) {
+            return switch (type) {
+                case MP4, MOV, WEBM -> List.of(THUMBNAIL, PREVIEW, TRANSCODED);
+                case PNG, JPEG, GIF -> List.of(THUMBNAIL);
+                default -> List.of();
+            };
+        }
+
+        /**
+         * @throws IllegalArgumentException thumbnail / preview / transcoded 이외의 값
+         */
+        public static Variant from(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("미디어 종류는 thumbnail, preview, transcoded 입니다: " + value);
+            }
+        }
+    }
+
+    private final MediaJobRepository mediaJobRepository;
+    private final ApplicationRepository applicationRepository;
+    private final StoredFileRepository storedFileRepository;
+    private final FileStorageService fileStorageService;
+    private final TransactionTemplate transactionTemplate;
+
+    private final boolean enabled;
+    private final List<String> ffmpegCommand;
+    private final long timeoutSeconds;
+    private final int maxAttempts;
+    private final long retryBackoffSeconds;
+    private final long leaseSeconds;
+    private final long pollIntervalMs;
+
+    // 빈 워커 수 - 디스패처만 가져가고 워커가 작업을 끝낼 때 돌려줌
+    private final Semaphore idleWorkers;
+    private final ThreadPoolExecutor workers;
+
+    // 디스패처 전용 스레드 - 공용 @Scheduled 스레드의 다른 작업(스냅샷 갱신, GC 등)이 길어져도 작업 가져가기가 밀리지 않도록
+    private final ScheduledExecutorService dispatcher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "media-dispatcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public MediaProcessingService(MediaJobRepository mediaJobRepository,
+                                  ApplicationRepository applicationRepository,
+                                  StoredFileRepository storedFileRepository,
+                                  FileStorageService fileStorageService,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${media.processing.enabled:true}") boolean enabled,
+                                  @Value("${media.processing.ffmpeg-command:ffmpeg}") String ffmpegCommand,
+                                  @Value("${media.processing.threads:2}") int threads,
+                                  @Value("${media.processing.poll-interval-ms:2000}") long pollIntervalMs,
+                                  @Value("${media.processing.timeout-seconds:600}") long timeoutSeconds,
+                                  @Value("${media.processing.max-attempts:3}") int maxAttempts,
+                                  @Value("${media.processing.retry-backoff-seconds:60}") long retryBackoffSeconds) {
+        this.mediaJobRepository = mediaJobRepository;
+        this.applicationRepository = applicationRepository;
+        this.storedFileRepository = storedFileRepository;
+        this.fileStorageService = fileStorageService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.enabled = enabled;
+        this.ffmpegCommand = List.of(ffmpegCommand.trim().split("\\s+"));
+        this.timeoutSeconds = timeoutSeconds;
+        this.maxAttempts = maxAttempts;
+        this.retryBackoffSeconds = retryBackoffSeconds;
+        this.pollIntervalMs = pollIntervalMs;
+        // 결과물을 전부 만드는 최대 시간 + 여유 - 이 시간 안에 끝내지 못하면 다른 워커가 다시 가져감
+        this.leaseSeconds = timeoutSeconds * Variant.values().length + 60;
+
+        this.idleWorkers = new Semaphore(threads);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(
+                threads, threads, 60, TimeUnit.SECONDS,
+                new LinkedBlockingQueue<>(),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "media-worker-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }
+        );
+        this.workers.allowCoreThreadTimeOut(true);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (enabled) {
+            dispatcher.scheduleWithFixedDelay(this::dispatchSafely, pollIntervalMs, pollIntervalMs,
+                    TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 포트폴리오 교체 시 처리 작업 등록 (첨부 트랜잭션 안에서 호출)
+     * - 이전 파일의 대기 중 작업은 취소, 처리할 수 없는 형식이면 미디어 상태를 비움
+     * - 같은 내용의 결과물이 이미 있으면 작업 없이 바로 완료
+     */
+    public void enqueue(Application application, Long storedFileId, String sha256, FileUtil.FileType type,
+                        LocalDateTime now) {
+        if (application.getMediaJobId() != null) {
+            mediaJobRepository.cancelIfPending(application.getMediaJobId(),
+                    MediaJob.Status.PENDING, MediaJob.Status.CANCELLED, now);
+        }
+
+        List<Variant> variants = Variant.of(type);
+        if (variants.isEmpty()) {
+            application.setMediaJobId(null);
+            application.setMediaStatus(null);
+            return;
+        }
+        if (variants.stream().allMatch(variant -> fileStorageService.exists(
+                fileStorageService.derivedPath(sha256, variant.getFileName())))) {
+            application.setMediaJobId(null);
+            application.setMediaStatus(Application.MediaStatus.READY);
+            return;
+        }
+
+        MediaJob job = mediaJobRepository.save(new MediaJob(application.getId(), storedFileId, now));
+        application.setMediaJobId(job.getId());
+        application.setMediaStatus(Application.MediaStatus.PENDING);
+    }
+
+    /**
+     * 빈 워커 수만큼 작업을 가져와 실행 (디스패처 스레드에서 poll-interval-ms 주기로 호출)
+     * - media.processing.enabled=false 노드는 작업 등록만 하고 처리는 다른 노드에 맡김
+     */
+    public void dispatch() {
+        if (!enabled) {
+            return;
+        }
+
+        int idle = idleWorkers.availablePermits();
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> jobIds = transactionTemplate.execute(status -> {
+            List<Long> abandoned = mediaJobRepository.failAbandoned(now, maxAttempts);
+            if (!abandoned.isEmpty()) {
+                applicationRepository.updateMediaStatusByJobIds(abandoned, Application.MediaStatus.FAILED);
+            }
+            if (idle == 0) {
+                return List.<Long>of();
+            }
+            List<Long> claimed = mediaJobRepository.claim(now, now.plusSeconds(leaseSeconds), maxAttempts, idle);
+            if (!claimed.isEmpty()) {
+                applicationRepository.updateMediaStatusByJobIds(claimed, Application.MediaStatus.PROCESSING);
+            }
+            return claimed;
+        });
+
+        for (Long jobId : jobIds) {
+            // 가져간 수 ≤ 빈 워커 수이고 다른 곳에서는 가져가지 않으므로 기다리지 않음
+            idleWorkers.acquireUninterruptibly();
+            try {
+                workers.execute(() -> {
+                    try {
+                        process(jobId);
+                    } finally {
+                        idleWorkers.release();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                // 종료 중 - 작업은 임대 시간이 지나면 다시 실행됨
+                idleWorkers.release();
+            }
+        }
+    }
+
+    // 예외가 나면 scheduleWithFixedDelay가 이후 실행을 멈추므로 여기서 삼킴 (DB 장애 등 → 다음 주기에 재시도)
+    private void dispatchSafely() {
+        try {
+            dispatch();
+        } catch (RuntimeException e) {
+            logger.warn("미디어 작업 가져오기 실패: {}", e.getMessage());
+        }
+    }
+
+    private void process(Long jobId) {
+        MediaJob job = mediaJobRepository.findById(jobId).orElse(null);
+        if (job == null) {
+            return;
+        }
+
+        String error = null;
+        try {
+            StoredFile source = storedFileRepository.findById(job.getStoredFileId())
+                    .orElseThrow(() -> new IOException("원본 파일이 삭제됐습니다"));
+            Path input = fileStorageService.resolve(source.getPath());
+            for (Variant variant : Variant.of(source.getContentType())) {
+                String path = fileStorageService.derivedPath(source.getSha256(), variant.getFileName());
+                if (!fileStorageService.exists(path)) {
+                    render(variant, source.getContentType(), input, path);
+                }
+            }
+        } catch (InterruptedException e) {
+            // 종료 중 - 임대 시간이 지나면 다시 실행됨
+            Thread.currentThread().interrupt();
+            return;
+        } catch (IOException | RuntimeException e) {
+            error = e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+            if (error.length() > MAX_ERROR_LENGTH) {
+                error = error.substring(0, MAX_ERROR_LENGTH);
+            }
+        }
+
+        finish(job, error);
+    }
+
+    // 가져갈 때의 시도 횟수로 아직 이 실행이 작업을 쥐고 있는지 확인 - 임대 시간을 넘겨 다른 워커가 다시 가져갔으면
+    // 결과를 기록하지 않음 (새 실행의 상태를 덮어쓰거나 지원서를 PENDING으로 되돌려 한 번 더 가져가게 하지 않도록)
+    private void finish(MediaJob job, String error) {
+        LocalDateTime now = LocalDateTime.now();
+        Boolean recorded = transactionTemplate.execute(status -> {
+            MediaJob.Status jobStatus;
+            Application.MediaStatus mediaStatus;
+            LocalDateTime availableAt = now;
+            if (error == null) {
+                jobStatus = MediaJob.Status.DONE;
+                mediaStatus = Application.MediaStatus.READY;
+            } else if (job.getAttempts() >= maxAttempts) {
+                jobStatus = MediaJob.Status.FAILED;
+                mediaStatus = Application.MediaStatus.FAILED;
+            } else {
+                jobStatus = MediaJob.Status.PENDING;
+                mediaStatus = Application.MediaStatus.PENDING;
+                availableAt = now.plusSeconds(retryBackoffSeconds * job.getAttempts());
+            }
+
+            int updated = mediaJobRepository.finish(job.getId(), job.getAttempts(), MediaJob.Status.RUNNING,
+                    jobStatus, error, availableAt, now);
+            if (updated == 0) {
+                return false;
+            }
+            applicationRepository.updateMediaStatusByJobIds(List.of(job.getId()), mediaStatus);
+            return true;
+        });
+
+        if (!Boolean.TRUE.equals(recorded)) {
+            logger.warn("미디어 처리 결과 버림 (작업 {}, {}회차) - 임대 시간이 지나 다른 워커가 다시 가져감",
+                    job.getId(), job.getAttempts());
+        } else if (error != null) {
+            logger.warn("미디어 처리 실패 (작업 {}, {}/{}회): {}", job.getId(), job.getAttempts(), maxAttempts, error);
+        }
+    }
+
+    // ffmpeg 실행 → 임시 파일에 쓰고 성공하면 최종 경로로 이동 (실패/중단 시 반쪽짜리 결과물이 남지 않음)
+    private void render(Variant variant, FileUtil.FileType type, Path input, String path)
+            throws IOException, InterruptedException {
+        Path output = fileStorageService.createIncomingFile(
+                variant.getFileName().substring(variant.getFileName().lastIndexOf('.')));
+        Path log = fileStorageService.createIncomingFile(".log");
+        Process process = null;
+        try {
+            process = new ProcessBuilder(command(variant, type, input, output))
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+            if (!process.waitFor(timeoutSeconds, TimeUnit.SECONDS)) {
+                throw new IOException(variant.name().toLowerCase(Locale.ROOT)
+                        + " 처리 시간 초과 (" + timeoutSeconds + "초)");
+            }
+            if (process.exitValue() != 0 || Files.size(output) == 0) {
+                throw new IOException(variant.name().toLowerCase(Locale.ROOT)
+                        + " 처리 실패 (종료 코드 " + process.exitValue() + "): " + tail(log));
+            }
+            fileStorageService.moveInto(output, path);
+        } finally {
+            if (process != null && process.isAlive()) {
+                process.destroyForcibly();
+            }
+            Files.deleteIfExists(output);
+            Files.deleteIfExists(log);
+        }
+    }
+
+    private List<String> command(Variant variant, FileUtil.FileType type, Path input, Path output) {
+        boolean video = Variant.of(type).contains(Variant.PREVIEW);
+        List<String> command = new ArrayList<>(ffmpegCommand);
+        command.addAll(List.of("-nostdin", "-hide_banner", "-loglevel", "error", "-y", "-i", input.toString()));
+        switch (variant) {
+            // 영상은 앞부분에서 대표 프레임을 골라 사용
+            case THUMBNAIL -> command.addAll(List.of(
+                    "-vf", video ? "thumbnail,scale=480:-2" : "scale=480:-2",
+                    "-frames:v", "1"));
+            case PREVIEW -> command.addAll(List.of(
+                    "-t", "6", "-an",
+                    "-vf", "scale=-2:360",
+                    "-c:v", "libx264", "-preset", "veryfast", "-crf", "28", "-pix_fmt", "yuv420p",
+                    "-movflags", "+faststart"));
+            case TRANSCODED -> command.addAll(List.of(
+                    "-vf", "scale=-2:'min(720,trunc(ih/2)*2)'",
+                    "-c:v", "libx264", "-preset", "veryfast", "-crf", "23", "-pix_fmt", "yuv420p",
+                    "-c:a", "aac", "-b:a", "128k",
+                    "-movflags", "+faststart"));
+        }
+        command.add(output.toString());
+        return command;
+    }
+
+    // 실패 원인 확인용 출력 끝부분
+    private static String tail(Path log) throws IOException {
+        String output = new String(Files.readAllBytes(log), StandardCharsets.UTF_8).strip();
+        return output.length() > 500 ? output.substring(output.length() - 500) : output;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        dispatcher.shutdownNow();
+        workers.shutdownNow();
+    }
+}
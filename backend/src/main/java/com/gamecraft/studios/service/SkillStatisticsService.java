@@ -0,0 +1,124 @@
+package com.gamecraft.studios.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamecraft.studios.dto.ApplicationSummary;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 지원자 기술 스택 통계
+ * - 기술별 지원서 검색/건수: skills GIN 인덱스로 바로 조회
+ * - 기술 분포(히스토그램): 전체 집계라서 주기적으로 한 번 계산해 메모리에 보관, 조회는 메모리에서만
+ */
+@Service
+public class SkillStatisticsService {
+
+    private static final Logger logger = LoggerFactory.getLogger(SkillStatisticsService.class);
+
+    public static final int MAX_PAGE_SIZE = 100;
+    // 이보다 뒤 페이지는 마지막 허용 페이지로 취급 (OFFSET이 int 범위를 넘지 않도록)
+    public static final int MAX_PAGE = 1000;
+
+    private final ApplicationRepository applicationRepository;
+    private final ObjectMapper objectMapper;
+
+    private volatile Histogram histogram = new Histogram(List.of(), null);
+
+    public SkillStatisticsService(ApplicationRepository applicationRepository, ObjectMapper objectMapper) {
+        this.applicationRepository = applicationRepository;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 기술 분포 재계산 (시작 시 1회 + 주기적)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${skills.histogram.refresh-interval-ms:600000}")
+    public void refreshHistogram() {
+        long startedAt = System.currentTimeMillis();
+
+        List<SkillCount> counts = applicationRepository.countGroupBySkill().stream()
+                .map(row -> new SkillCount((String) row[0], ((Number) row[1]).longValue()))
+                .toList();
+        histogram = new Histogram(counts, LocalDateTime.now());
+
+        logger.debug("기술 분포 갱신: {}개 기술 ({}ms)", counts.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 기술 분포 (지원서 수 많은 순, 캐시된 값)
+     */
+    public List<SkillCount> getHistogram(int limit) {
+        return histogram.counts.stream().limit(Math.max(0, limit)).toList();
+    }
+
+    public LocalDateTime getHistogramUpdatedAt() {
+        return histogram.updatedAt;
+    }
+
+    /**
+     * 특정 기술을 가진 지원서 (최신순)
+     */
+    public List<ApplicationSummary> findApplicationsBySkill(String skill, int page, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        int offset = Math.max(0, Math.min(page, MAX_PAGE)) * pageSize;
+        List<Long> ids = applicationRepository.findIdsBySkill(toSkillJson(skill), pageSize, offset);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // IN 조회는 순서를 보장하지 않으므로 id 순서(최신순)대로 다시 정렬
+        Map<Long, ApplicationSummary> byId = applicationRepository.findSummariesByIds(ids).stream()
+                .collect(Collectors.toMap(ApplicationSummary::getId, Function.identity()));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    public long countApplicationsBySkill(String skill) {
+        return applicationRepository.countBySkill(toSkillJson(skill));
+    }
+
+    // jsonb 포함 검색 인자 (["Spring Boot"]) - 기술명은 저장 시와 같게 앞뒤 공백 제거
+    private String toSkillJson(String skill) {
+        if (skill == null || skill.isBlank()) {
+            throw new IllegalArgumentException("기술명이 필요합니다");
+        }
+        try {
+            return objectMapper.writeValueAsString(List.of(skill.trim()));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("잘못된 기술명: " + skill, e);
+        }
+    }
+
+    public static class SkillCount {
+        private final String skill;
+        private final long count;
+
+        public SkillCount(String skill, long count) {
+            this.skill = skill;
+            this.count = count;
+        }
+
+        public String getSkill() { return skill; }
+
+        public long getCount() { return count; }
+    }
+
+    // 교체 단위 (목록 + 계산 시각)
+    private static class Histogram {
+        private final List<SkillCount> counts;
+        private final LocalDateTime updatedAt;
+
+        private Histogram(List<SkillCount> counts, LocalDateTime updatedAt) {
+            this.counts = counts;
+            this.updatedAt = updatedAt;
+        }
+    }
+}
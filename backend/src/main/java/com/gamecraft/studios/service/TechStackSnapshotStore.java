@@ -0,0 +1,173 @@
+package com.gamecraft.studios.service;
+
+import com.gamecraft.studios.dto.GitHubApiDto;
+import com.gamecraft.studios.dto.TechStackSnapshot;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 기술 스택 스냅샷 저장소 (stale-while-revalidate)
+ * - 요청은 항상 메모리의 스냅샷으로 응답
+ * - 스냅샷이 오래되면 백그라운드에서 갱신만 트리거
+ */
+@Component
+public class TechStackSnapshotStore {
+
+    private static final Logger logger = LoggerFactory.getLogger(TechStackSnapshotStore.class);
+
+    public static final String TRENDING = "trending";
+    public static final String GAME_INDUSTRY = "game-industry";
+
+    private final ConcurrentMap<String, TechStackSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private final ExecutorService refreshExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "tech-stack-snapshot-refresh");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Duration staleAfter;
+
+    public TechStackSnapshotStore(@Value("${github.snapshot.stale-after-ms:300000}") long staleAfterMs) {
+        this.staleAfter = Duration.ofMillis(staleAfterMs);
+    }
+
+    /**
+     * 스냅샷 조회 - 오래된 스냅샷은 그대로 반환하고 백그라운드 갱신만 요청
+     * 스냅샷이 아직 없을 때(콜드 스타트)만 호출 스레드에서 직접 로드
+     */
+    public TechStackSnapshot get(String key, Supplier<List<GitHubApiDto.TechStack>> loader) {
+        TechStackSnapshot snapshot = snapshots.get(key);
+
+        if (snapshot == null) {
+            return refresh(key, loader);
+        }
+
+        if (snapshot.isOlderThan(staleAfter)) {
+            refreshAsync(key, loader);
+        }
+
+        return snapshot;
+    }
+
+    /**
+     * 스냅샷 즉시 갱신 (스케줄러/콜드 스타트용)
+     * - 빈 결과(GitHub 장애 등)는 기존 스냅샷을 덮어쓰지 않음
+     * - 일부 검색만 실패한 경우 빠진 항목은 기존 스냅샷 값(마지막 정상값)으로 채움
+     */
+    public TechStackSnapshot refresh(String key, Supplier<List<GitHubApiDto.TechStack>> loader) {
+        List<GitHubApiDto.TechStack> techStacks = loader.get();
+        TechStackSnapshot previous = snapshots.get(key);
+
+        if (techStacks.isEmpty()) {
+            logger.warn("스냅샷 갱신 결과가 비어 있음: {} (기존 스냅샷 유지: {})", key, previous != null);
+            return previous != null ? previous : new TechStackSnapshot(techStacks, Instant.now());
+        }
+
+        if (previous != null && techStacks.size() < previous.getTechStacks().size()) {
+            return put(key, mergeWithPrevious(techStacks, previous));
+        }
+
+        return put(key, techStacks);
+    }
+
+    // 빠진 항목은 이전 스냅샷 값으로 채우되, 그 값의 원래 조회 시각을 함께 보관 (나이가 새 값처럼 보이지 않도록)
+    private TechStackSnapshot mergeWithPrevious(List<GitHubApiDto.TechStack> fresh, TechStackSnapshot previous) {
+        Map<String, GitHubApiDto.TechStack> merged = new LinkedHashMap<>();
+        previous.getTechStacks().forEach(techStack -> merged.put(techStack.getName(), techStack));
+        fresh.forEach(techStack -> merged.put(techStack.getName(), techStack));
+
+        Set<String> freshNames = fresh.stream().map(GitHubApiDto.TechStack::getName).collect(Collectors.toSet());
+        Map<String, Instant> carriedOver = new HashMap<>();
+        merged.keySet().stream()
+                .filter(name -> !freshNames.contains(name))
+                .forEach(name -> carriedOver.put(name, previous.getFetchedAt(name)));
+
+        logger.info("일부 검색 실패 - 마지막 정상값 {}개로 보완", carriedOver.size());
+
+        List<GitHubApiDto.TechStack> techStacks = merged.values().stream()
+                .sorted((a, b) -> Long.compare(b.getPopularityScore(), a.getPopularityScore()))
+                .toList();
+        return new TechStackSnapshot(techStacks, Instant.now(), carriedOver);
+    }
+
+    /**
+     * 현재 스냅샷 (없으면 null, 갱신 트리거 없음)
+     */
+    public TechStackSnapshot peek(String key) {
+        return snapshots.get(key);
+    }
+
+    /**
+     * 다른 경로(스트리밍 등)에서 새로 조회한 결과를 스냅샷으로 저장
+     */
+    public TechStackSnapshot put(String key, List<GitHubApiDto.TechStack> techStacks) {
+        return put(key, new TechStackSnapshot(techStacks, Instant.now()));
+    }
+
+    private TechStackSnapshot put(String key, TechStackSnapshot snapshot) {
+        snapshots.put(key, snapshot);
+        logger.info("스냅샷 갱신 완료: {} - {}개 기술 스택 (이전 값 유지 {}개)",
+                key, snapshot.getTechStacks().size(), snapshot.getCarriedOver().size());
+        return snapshot;
+    }
+
+    /**
+     * 다른 노드가 조회한 스냅샷 반영 (조회 시각 유지, 현재 것보다 새로울 때만)
+     */
+    public boolean replace(String key, TechStackSnapshot snapshot) {
+        TechStackSnapshot result = snapshots.merge(key, snapshot, (current, shared) ->
+                shared.getFetchedAt().isAfter(current.getFetchedAt()) ? shared : current);
+        return result == snapshot;
+    }
+
+    /**
+     * 백그라운드 갱신 (같은 키에 대해 동시에 하나만 실행)
+     */
+    public void refreshAsync(String key, Supplier<List<GitHubApiDto.TechStack>> loader) {
+        refreshAsync(key, loader, snapshot -> { });
+    }
+
+    /**
+     * 백그라운드 갱신 후 결과 스냅샷 전달 (이미 같은 키를 갱신 중이면 아무것도 하지 않음)
+     */
+    public void refreshAsync(String key, Supplier<List<GitHubApiDto.TechStack>> loader,
+                             Consumer<TechStackSnapshot> onRefreshed) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+
+        refreshExecutor.execute(() -> {
+            try {
+                onRefreshed.accept(refresh(key, loader));
+            } catch (Exception e) {
+                logger.warn("스냅샷 백그라운드 갱신 실패: " + key, e);
+            } finally {
+                refreshing.remove(key);
+            }
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
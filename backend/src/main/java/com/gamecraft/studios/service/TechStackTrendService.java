@@ -0,0 +1,213 @@
+package com.gamecraft.studios.service;
+
+import com.gamecraft.studios.dto.GitHubApiDto;
+import com.gamecraft.studios.dto.TechStackSnapshot;
+import com.gamecraft.studios.entity.TechStackObservation;
+import com.gamecraft.studios.repository.TechStackObservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 기술 스택 인기도 시계열
+ * - 스냅샷이 갱신될 때마다 값이 바뀐 기술 스택만 DB에 기록 (증분 적재)
+ * - 트렌딩 조회는 DB 최신값 + 7일/30일 전 값으로 증감률 계산
+ * - 계산 결과는 다음 적재 전까지 재사용 (다른 노드의 적재분은 적재 주기 안에 반영)
+ */
+@Service
+@Transactional(readOnly = true)
+public class TechStackTrendService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TechStackTrendService.class);
+
+    private final TechStackObservationRepository observationRepository;
+    private final GitHubTechStackService gitHubTechStackService;
+    private final GitHubClusterCoordinator clusterCoordinator;
+    private final TransactionTemplate transactionTemplate;
+
+    private final Duration lookback;
+    private final long cacheTtlMs;
+
+    // 이미 적재한 스냅샷은 다시 비교하지 않음
+    private volatile Instant lastIngestedSnapshotAt;
+
+    // 트렌딩 계산 결과 - 적재할 때마다 세대가 바뀌어 무효화
+    private final AtomicLong ingestGeneration = new AtomicLong();
+    private volatile CachedTrend cachedTrend;
+
+    public TechStackTrendService(TechStackObservationRepository observationRepository,
+                                 GitHubTechStackService gitHubTechStackService,
+                                 GitHubClusterCoordinator clusterCoordinator,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${tech-stack.trend.lookback-days:30}") int lookbackDays,
+                                 @Value("${tech-stack.ingest.interval-ms:600000}") long cacheTtlMs) {
+        this.observationRepository = observationRepository;
+        this.gitHubTechStackService = gitHubTechStackService;
+        this.clusterCoordinator = clusterCoordinator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.lookback = Duration.ofDays(lookbackDays);
+        this.cacheTtlMs = cacheTtlMs;
+    }
+
+    /**
+     * 스냅샷 → DB 증분 적재 (변경된 값만 배치 insert)
+     * 팔로워 노드도 같은 공유 스냅샷을 들고 있으므로 리더만 적재 (중복 이력 방지)
+     * - 메모리에 있는 스냅샷만 사용 (GitHub 조회는 스냅샷 갱신 작업의 몫), 트랜잭션은 DB 읽기/쓰기 구간에만
+     */
+    @Scheduled(initialDelayString = "${tech-stack.ingest.initial-delay-ms:60000}",
+            fixedDelayString = "${tech-stack.ingest.interval-ms:600000}")
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void ingest() {
+        if (!clusterCoordinator.isLeader()) {
+            return;
+        }
+
+        TechStackSnapshot snapshot = gitHubTechStackService.peekTrendingSnapshot();
+
+        if (snapshot == null || snapshot.getTechStacks().isEmpty()
+                || snapshot.getFetchedAt().equals(lastIngestedSnapshotAt)) {
+            return;
+        }
+
+        int changedCount = transactionTemplate.execute(status -> store(snapshot));
+        lastIngestedSnapshotAt = snapshot.getFetchedAt();
+        if (changedCount > 0) {
+            ingestGeneration.incrementAndGet();
+        }
+
+        logger.info("기술 스택 이력 적재: {}개 중 {}개 변경", snapshot.getTechStacks().size(), changedCount);
+    }
+
+    // 최신값과 비교해 바뀐 항목만 저장 → 저장한 수
+    private int store(TechStackSnapshot snapshot) {
+        Map<String, TechStackObservation> latest = observationRepository.findLatestPerName().stream()
+                .collect(Collectors.toMap(TechStackObservation::getName, Function.identity()));
+
+        LocalDateTime observedAt = LocalDateTime.ofInstant(snapshot.getFetchedAt(), ZoneId.systemDefault());
+
+        // 부분 갱신 스냅샷에서 이전 값으로 채운 항목은 새 관측이 아니므로 기록하지 않음
+        List<TechStackObservation> changed = snapshot.getTechStacks().stream()
+                .filter(techStack -> !snapshot.getCarriedOver().containsKey(techStack.getName()))
+                .filter(techStack -> isChanged(latest.get(techStack.getName()), techStack))
+                .map(techStack -> new TechStackObservation(
+                        techStack.getName(),
+                        techStack.getCategory(),
+                        techStack.getPopularityScore(),
+                        techStack.getRepositoryCount(),
+                        techStack.getDescription(),
+                        observedAt))
+                .toList();
+
+        observationRepository.saveAll(changed);
+        return changed.size();
+    }
+
+    private boolean isChanged(TechStackObservation previous, GitHubApiDto.TechStack current) {
+        return previous == null
+                || previous.getPopularityScore() != current.getPopularityScore()
+                || previous.getRepositoryCount() != current.getRepositoryCount();
+    }
+
+    /**
+     * DB 기준 트렌딩 기술 스택 (인기도 순, 7일/30일 증감률 포함)
+     * 아직 이력이 없으면 빈 목록
+     */
+    public List<GitHubApiDto.TechStack> getTrendingTechStacks() {
+        long generation = ingestGeneration.get();
+        CachedTrend cached = cachedTrend;
+        if (cached != null && cached.generation == generation
+                && System.currentTimeMillis() - cached.computedAtMillis < cacheTtlMs) {
+            return cached.techStacks;
+        }
+
+        List<GitHubApiDto.TechStack> techStacks = List.copyOf(computeTrendingTechStacks());
+        cachedTrend = new CachedTrend(techStacks, generation, System.currentTimeMillis());
+        return techStacks;
+    }
+
+    private List<GitHubApiDto.TechStack> computeTrendingTechStacks() {
+        LocalDateTime now = LocalDateTime.now();
+
+        List<TechStackObservation> latest = observationRepository.findLatestPerName();
+        if (latest.isEmpty()) {
+            return List.of();
+        }
+
+        LocalDateTime weekAgo = now.minusDays(7);
+        LocalDateTime monthAgo = now.minusDays(30);
+        Map<String, TechStackObservation> weekAgoValues =
+                byName(observationRepository.findLatestPerNameAsOf(weekAgo, weekAgo.minus(lookback)));
+        Map<String, TechStackObservation> monthAgoValues =
+                byName(observationRepository.findLatestPerNameAsOf(monthAgo, monthAgo.minus(lookback)));
+
+        return latest.stream()
+                .map(observation -> {
+                    GitHubApiDto.TechStack techStack = new GitHubApiDto.TechStack(
+                            observation.getName(),
+                            observation.getCategory(),
+                            observation.getPopularityScore(),
+                            observation.getRepositoryCount()
+                    );
+                    techStack.setDescription(observation.getDescription());
+                    techStack.setWeeklyGrowthRate(growthRate(baseline(weekAgoValues, observation, weekAgo), observation));
+                    techStack.setMonthlyGrowthRate(growthRate(baseline(monthAgoValues, observation, monthAgo), observation));
+                    return techStack;
+                })
+                .sorted((a, b) -> Long.compare(b.getPopularityScore(), a.getPopularityScore()))
+                .collect(Collectors.toList());
+    }
+
+    // 기준 시점 이후로 바뀐 적이 없으면 현재 값이 곧 그 시점의 값 (조회 범위 밖의 오래된 행을 찾지 않아도 됨)
+    private TechStackObservation baseline(Map<String, TechStackObservation> pastValues,
+                                          TechStackObservation current, LocalDateTime asOf) {
+        return current.getObservedAt().isAfter(asOf) ? pastValues.get(current.getName()) : current;
+    }
+
+    /**
+     * 기술 스택 하나의 최근 N일 이력
+     */
+    public List<TechStackObservation> getHistory(String name, int days) {
+        return observationRepository.findByNameAndObservedAtAfterOrderByObservedAtAsc(
+                name, LocalDateTime.now().minusDays(days));
+    }
+
+    private Map<String, TechStackObservation> byName(List<TechStackObservation> observations) {
+        return observations.stream()
+                .collect(Collectors.toMap(TechStackObservation::getName, Function.identity()));
+    }
+
+    private Double growthRate(TechStackObservation past, TechStackObservation current) {
+        if (past == null || past.getPopularityScore() == 0) {
+            return null;
+        }
+        double rate = (current.getPopularityScore() - past.getPopularityScore()) * 100.0 / past.getPopularityScore();
+        return Math.round(rate * 100) / 100.0;
+    }
+
+    private static class CachedTrend {
+        private final List<GitHubApiDto.TechStack> techStacks;
+        private final long generation;
+        private final long computedAtMillis;
+
+        CachedTrend(List<GitHubApiDto.TechStack> techStacks, long generation, long computedAtMillis) {
+            this.techStacks = techStacks;
+            this.generation = generation;
+            this.computedAtMillis = computedAtMillis;
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.gamecraft.studios.util;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * 업로드 파일 유틸
+ * - 파일 형식 판별: 클라이언트가 보낸 Content-Type/확장자 대신 파일 앞부분(매직 바이트)으로 판단
+ * - 파일 전송: Range 요청 지원, 본문은 sendfile(Tomcat) 또는 FileChannel.transferTo로 전송 (힙 byte[]로 읽지 않음)
+ */
+public final class FileUtil {
+
+    // 형식 판별에 읽는 앞부분 크기
+    public static final int SNIFF_LENGTH = 16;
+
+    // Tomcat NIO 커넥터 sendfile 요청 속성
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private FileUtil() {}
+
+    public enum FileType {
+        PDF("application/pdf", "pdf"),
+        DOCX("application/vnd.openxmlformats-officedocument.wordprocessingml.document", "docx"),
+        PPTX("application/vnd.openxmlformats-officedocument.presentationml.presentation", "pptx"),
+        ZIP("application/zip", "zip"),
+        DOC("application/msword", "doc"),
+        HWP("application/x-hwp", "hwp"),
+        PNG("image/png", "png"),
+        JPEG("image/jpeg", "jpg", "jpeg"),
+        GIF("image/gif", "gif"),
+        MP4("video/mp4", "mp4", "m4v"),
+        MOV("video/quicktime", "mov"),
+        WEBM("video/webm", "webm");
+
+        private final String contentType;
+        private final List<String> extensions;
+
+        FileType(String contentType, String... extensions) {
+            this.contentType = contentType;
+            this.extensions = List.of(extensions);
+        }
+
+        public String getContentType() { return contentType; }
+
+        // 저장 파일 확장자
+        public String getExtension() { return extensions.get(0); }
+
+        public static Optional<FileType> fromExtension(String extension) {
+            return Arrays.stream(values())
+                    .filter(type -> type.extensions.contains(extension))
+                    .findFirst();
+        }
+    }
+
+    /**
+     * 파일 앞부분으로 형식 판별
+     * - ZIP/OLE 컨테이너(docx, hwp 등)는 시그니처가 같으므로 원본 파일명 확장자로 구분
+     *
+     * @return 알 수 없는 형식이면 empty
+     */
+    public static Optional<FileType> sniff(byte[] head, String originalFilename) {
+        String extension = extensionOf(originalFilename);
+
+        if (startsWith(head, 0, "%PDF-".getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.of(FileType.PDF);
+        }
+        if (startsWith(head, 0, 0x50, 0x4B, 0x03, 0x04)) {
+            return Optional.of(switch (extension) {
+                case "docx" -> FileType.DOCX;
+                case "pptx" -> FileType.PPTX;
+                default -> FileType.ZIP;
+            });
+        }
+        if (startsWith(head, 0, 0xD0, 0xCF, 0x11, 0xE0, 0xA1, 0xB1, 0x1A, 0xE1)) {
+            return switch (extension) {
+                case "doc" -> Optional.of(FileType.DOC);
+                case "hwp" -> Optional.of(FileType.HWP);
+                default -> Optional.empty();
+            };
+        }
+        if (startsWith(head, 0, 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A)) {
+            return Optional.of(FileType.PNG);
+        }
+        if (startsWith(head, 0, 0xFF, 0xD8, 0xFF)) {
+            return Optional.of(FileType.JPEG);
+        }
+        if (startsWith(head, 0, "GIF87a".getBytes(StandardCharsets.US_ASCII))
+                || startsWith(head, 0, "GIF89a".getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.of(FileType.GIF);
+        }
+        // ISO BMFF: [박스 크기 4바이트]["ftyp"][브랜드]
+        if (startsWith(head, 4, "ftyp".getBytes(StandardCharsets.US_ASCII))) {
+            return Optional.of(startsWith(head, 8, "qt  ".getBytes(StandardCharsets.US_ASCII))
+                    ? FileType.MOV
+                    : FileType.MP4);
+        }
+        if (startsWith(head, 0, 0x1A, 0x45, 0xDF, 0xA3)) {
+            return Optional.of(FileType.WEBM);
+        }
+        return Optional.empty();
+    }
+
+    // 소문자 확장자 (없으면 빈 문자열)
+    public static String extensionOf(String filename) {
+        if (filename == null) {
+            return "";
+        }
+        int dot = filename.lastIndexOf('.');
+        return dot < 0 ? "" : filename.substring(dot + 1).toLowerCase(Locale.ROOT);
+    }
+
+    // 다운로드 파일명 - 경로 구분자/제어 문자 제거
+    public static String sanitizeFilename(String filename) {
+        if (filename == null) {
+            return "file";
+        }
+        String name = filename.substring(Math.max(filename.lastIndexOf('/'), filename.lastIndexOf('\\')) + 1)
+                .replaceAll("[\\p{Cntrl}\"]", "")
+                .trim();
+        return name.isEmpty() ? "file" : name;
+    }
+
+    /**
+     * 파일 응답 (200 전체 / 206 단일 Range / 416 범위 오류)
+     * - 여러 구간 Range 요청은 전체 응답으로 처리
+     */
+    public static void sendFile(HttpServletRequest request, HttpServletResponse response, Path file,
+                                long length, String contentType, String downloadName) throws IOException {
+        long start = 0;
+        long end = length - 1;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    if (start >= length || start > end) {
+                        throw new IllegalArgumentException("범위가 파일 크기를 벗어남: " + rangeHeader);
+                    }
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                return;
+            }
+        }
+
+        long count = end - start + 1;
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setContentType(contentType);
+        response.setContentLengthLong(count);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename(sanitizeFilename(downloadName), StandardCharsets.UTF_8)
+                .build()
+                .toString());
+
+        if (count <= 0) {
+            return;
+        }
+
+        // 커넥터가 직접 소켓으로 전송 (응답이 끝난 뒤 커널 sendfile)
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, file.toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end + 1);
+            return;
+        }
+
+        // sendfile을 못 쓰는 경우 (TLS 등) - 파일 채널에서 응답 채널로 직접 전송
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long sent = channel.transferTo(position, remaining, out);
+                if (sent <= 0) {
+                    break;
+                }
+                position += sent;
+                remaining -= sent;
+            }
+        }
+    }
+
+    private static boolean startsWith(byte[] head, int offset, int... signature) {
+        if (head.length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if ((head[offset + i] & 0xFF) != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean startsWith(byte[] head, int offset, byte[] signature) {
+        if (head.length < offset + signature.length) {
+            return false;
+        }
+        for (int i = 0; i < signature.length; i++) {
+            if (head[offset + i] != signature[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
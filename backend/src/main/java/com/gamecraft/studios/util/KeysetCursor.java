@@ -0,0 +1,45 @@
+package com.gamecraft.studios.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (createdAt, id)
+ * - 클라이언트에는 내용을 알 수 없는 문자열(Base64 URL)로만 전달
+ * - 다음 페이지는 마지막 행보다 (createdAt, id)가 작은 행부터 조회
+ */
+public class KeysetCursor {
+
+    private final LocalDateTime createdAt;
+    private final Long id;
+
+    public KeysetCursor(LocalDateTime createdAt, Long id) {
+        this.createdAt = createdAt;
+        this.id = id;
+    }
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @throws IllegalArgumentException 형식이 잘못된 커서
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf('|');
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+        }
+    }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+
+    public Long getId() { return id; }
+}
@@ -0,0 +1,59 @@
+package com.gamecraft.studios.util;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키에 대한 동시 호출 병합 (single-flight)
+ * - 같은 키로 진행 중인 작업이 있으면 새로 실행하지 않고 그 결과를 함께 기다림
+ * - 작업이 끝나면 키를 비워서 다음 호출은 다시 실행
+ */
+public class SingleFlight<K, V> {
+
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong originatedCalls = new AtomicLong();
+    private final AtomicLong coalescedCalls = new AtomicLong();
+
+    public V execute(K key, Supplier<V> supplier) {
+        CompletableFuture<V> created = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, created);
+
+        if (existing != null) {
+            coalescedCalls.incrementAndGet();
+            return await(existing);
+        }
+
+        originatedCalls.incrementAndGet();
+        try {
+            V value = supplier.get();
+            created.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            created.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, created);
+        }
+    }
+
+    private V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    public long getOriginatedCalls() { return originatedCalls.get(); }
+
+    public long getCoalescedCalls() { return coalescedCalls.get(); }
+
+    public int getInFlightCount() { return inFlight.size(); }
+}
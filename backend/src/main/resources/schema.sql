@@ -0,0 +1,24 @@
+-- JPA 테이블 생성 후 실행 (spring.jpa.defer-datasource-initialization)
+-- 엔티티로 표현할 수 없는 PostgreSQL 전용 검색 컬럼/인덱스, 여러 번 실행해도 안전하도록 IF NOT EXISTS
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- 지원서 전문 검색 벡터 (회사 > 포지션 > 자기소개서 순 가중치)
+-- 한국어 사전이 없으므로 'simple' 설정 + 검색 시 접두어 매칭으로 조사 붙은 단어도 검색
+ALTER TABLE applications ADD COLUMN IF NOT EXISTS search_vector tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('simple', coalesce(company, '')), 'A') ||
+        setweight(to_tsvector('simple', coalesce(position, '')), 'B') ||
+        setweight(to_tsvector('simple', coalesce(cover_letter, '')), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_application_search_vector ON applications USING GIN (search_vector);
+
+-- 회사명 부분 일치 (LOWER(company) LIKE '%..%') 용 트라이그램 인덱스
+CREATE INDEX IF NOT EXISTS idx_application_company_trgm ON applications USING GIN (lower(company) gin_trgm_ops);
+
+-- 지원자 이름 부분 일치/유사도 검색용 트라이그램 인덱스
+CREATE INDEX IF NOT EXISTS idx_user_name_trgm ON users USING GIN (name gin_trgm_ops);
+
+-- 기술 스택 포함 검색 (skills @> '["Java"]') 용 GIN 인덱스
+CREATE INDEX IF NOT EXISTS idx_application_skills ON applications USING GIN (skills jsonb_path_ops);
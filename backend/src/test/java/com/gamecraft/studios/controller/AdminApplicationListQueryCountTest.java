@@ -0,0 +1,142 @@
+package com.gamecraft.studios.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.entity.User;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import com.gamecraft.studios.repository.UserRepository;
+import com.gamecraft.studios.support.TestFixtures;
+import com.gamecraft.studios.support.TestSessions;
+import com.gamecraft.studios.util.SqlStatementBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 관리자 지원서 목록 (키셋 페이징) - 페이지 크기/위치와 관계없이 SQL 수가 일정한지 확인
+ * - 첫 페이지: 목록 1 + 전체 건수 1
+ * - 다음 페이지(커서): 목록 1
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminApplicationListQueryCountTest {
+
+    private static final String ADMIN_KAKAO_ID = "list-query-admin";
+    private static final String COMPANY = "QueryCount Studio";
+    private static final int APPLICANTS = 5;
+    private static final int APPLICATIONS_PER_APPLICANT = 9;
+    private static final int TOTAL = APPLICANTS * APPLICATIONS_PER_APPLICANT;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private MockHttpSession adminSession;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        if (TestFixtures.createAdminIfAbsent(userRepository, ADMIN_KAKAO_ID)) {
+            seedApplications();
+        }
+        adminSession = TestSessions.kakaoLogin(ADMIN_KAKAO_ID);
+
+        // 로그인 사용자 캐시를 채워 둠 (측정 구간에는 목록 조회 SQL만 남도록)
+        mockMvc.perform(listRequest(20, null)).andExpect(status().isOk());
+    }
+
+    @Test
+    void firstPageRunsPageAndCountQueriesOnly() throws Exception {
+        JsonNode page = SqlStatementBudget.assertAtMost(2, () -> perform(listRequest(20, null)));
+
+        assertThat(page.get("size").asInt()).isEqualTo(20);
+        assertThat(page.get("totalCount").asLong()).isEqualTo(TOTAL);
+        assertThat(page.get("hasNext").asBoolean()).isTrue();
+    }
+
+    @Test
+    void largerPageDoesNotAddQueries() throws Exception {
+        JsonNode page = SqlStatementBudget.assertAtMost(2, () -> perform(listRequest(100, null)));
+
+        assertThat(page.get("size").asInt()).isEqualTo(TOTAL);
+        assertThat(page.get("hasNext").asBoolean()).isFalse();
+    }
+
+    @Test
+    void cursorPagesRunOneQueryEach() throws Exception {
+        Set<Long> seen = new HashSet<>();
+        List<Integer> pageSizes = new ArrayList<>();
+
+        JsonNode page = perform(listRequest(20, null));
+        collect(page, seen, pageSizes);
+
+        while (page.get("hasNext").asBoolean()) {
+            String cursor = page.get("nextCursor").asText();
+            page = SqlStatementBudget.assertAtMost(1, () -> perform(listRequest(20, cursor)));
+            assertThat(page.has("totalCount")).isFalse();
+            collect(page, seen, pageSizes);
+        }
+
+        assertThat(pageSizes).containsExactly(20, 20, 5);
+        assertThat(seen).hasSize(TOTAL);
+    }
+
+    private void seedApplications() {
+        List<Application> applications = new ArrayList<>();
+        for (int i = 0; i < APPLICANTS; i++) {
+            User applicant = userRepository.save(
+                    new User("list-query-user-" + i, "지원자" + i, "list-query-" + i + "@test.com"));
+            for (int j = 0; j < APPLICATIONS_PER_APPLICANT; j++) {
+                Application application = new Application(applicant, COMPANY, "서버 개발 " + j);
+                application.setExperienceLevel(Application.ExperienceLevel.MID);
+                application.setJobType(Application.JobType.BACKEND);
+                applications.add(application);
+            }
+        }
+        applicationRepository.saveAll(applications);
+    }
+
+    private MockHttpServletRequestBuilder listRequest(int size, String cursor) {
+        MockHttpServletRequestBuilder request = get("/admin/applications")
+                .session(adminSession)
+                .param("company", "querycount")
+                .param("size", String.valueOf(size));
+        return cursor != null ? request.param("cursor", cursor) : request;
+    }
+
+    private JsonNode perform(MockHttpServletRequestBuilder request) throws Exception {
+        String body = mockMvc.perform(request)
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        return objectMapper.readTree(body);
+    }
+
+    private void collect(JsonNode page, Set<Long> seen, List<Integer> pageSizes) {
+        pageSizes.add(page.get("size").asInt());
+        page.get("applications").forEach(application -> seen.add(application.get("id").asLong()));
+    }
+}
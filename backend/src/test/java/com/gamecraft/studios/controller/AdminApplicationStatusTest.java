@@ -0,0 +1,120 @@
+package com.gamecraft.studios.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamecraft.studios.entity.User;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import com.gamecraft.studios.repository.UserRepository;
+import com.gamecraft.studios.support.TestFixtures;
+import com.gamecraft.studios.support.TestSessions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * 지원서 상태 변경 (단건) - 허용 여부는 DB의 실제 상태 기준
+ * - 요청자가 본 상태(expectedStatus)가 이미 바뀌었으면 409 + 실제 상태
+ * - 실제 상태에서 허용하지 않는 전이만 422
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class AdminApplicationStatusTest {
+
+    private static final String ADMIN_KAKAO_ID = "status-admin";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private MockHttpSession adminSession;
+    private Long applicationId;
+
+    @BeforeEach
+    void setUp() {
+        TestFixtures.createAdminIfAbsent(userRepository, ADMIN_KAKAO_ID);
+        adminSession = TestSessions.kakaoLogin(ADMIN_KAKAO_ID);
+
+        User applicant = TestFixtures.newApplicant(userRepository, "status-");
+        applicationId = applicationRepository.save(
+                TestFixtures.newApplication(applicant, "Status Games", "서버 개발")).getId();
+    }
+
+    @Test
+    void updatesFromExpectedStatus() throws Exception {
+        changeStatus("REVIEWING", "SUBMITTED")
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.previousStatus").value("SUBMITTED"))
+                .andExpect(jsonPath("$.newStatus").value("REVIEWING"))
+                .andExpect(jsonPath("$.changed").value(true));
+    }
+
+    @Test
+    void illegalTransitionFromActualStatusIsUnprocessable() throws Exception {
+        changeStatus("ACCEPTED", "SUBMITTED")
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.currentStatus").value("SUBMITTED"));
+    }
+
+    @Test
+    void staleExpectedStatusIsConflictEvenIfItsTransitionIsIllegal() throws Exception {
+        changeStatus("REVIEWING", null).andExpect(status().isOk());
+
+        // SUBMITTED → ACCEPTED는 허용되지 않지만, 실제 상태(REVIEWING)가 이미 달라서 다시 보고 판단해야 함
+        changeStatus("ACCEPTED", "SUBMITTED")
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.currentStatus").value("REVIEWING"));
+    }
+
+    @Test
+    void staleExpectedStatusIsConflictWhenCompareAndSetFails() throws Exception {
+        changeStatus("REJECTED", null).andExpect(status().isOk());
+
+        changeStatus("REVIEWING", "SUBMITTED")
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.currentStatus").value("REJECTED"));
+    }
+
+    @Test
+    void withoutExpectedStatusChecksStatusReadFromDatabase() throws Exception {
+        changeStatus("REVIEWING", null).andExpect(status().isOk());
+        changeStatus("ACCEPTED", null).andExpect(status().isOk());
+
+        changeStatus("REVIEWING", null)
+                .andExpect(status().isUnprocessableEntity())
+                .andExpect(jsonPath("$.currentStatus").value("ACCEPTED"));
+    }
+
+    private ResultActions changeStatus(String target, String expected) throws Exception {
+        Map<String, Object> body = new HashMap<>();
+        body.put("status", target);
+        if (expected != null) {
+            body.put("expectedStatus", expected);
+        }
+        return mockMvc.perform(put("/admin/applications/{id}/status", applicationId)
+                .session(adminSession)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body)));
+    }
+}
@@ -0,0 +1,164 @@
+package com.gamecraft.studios.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamecraft.studios.entity.User;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import com.gamecraft.studios.repository.UserRepository;
+import com.gamecraft.studios.support.TestFixtures;
+import com.gamecraft.studios.support.TestSessions;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+
+/**
+ * 지원서 제출 - 동시에 몰린 같은 요청이 지원서를 한 건만 만드는지 확인
+ * - 같은 Idempotency-Key: 모두 201, 처음 하나만 실제 처리하고 나머지는 Idempotent-Replayed: true
+ * - 같은 (사용자, 회사, 포지션), 키 없음: 201 한 건 + 나머지 409
+ * - 같은 키에 다른 본문: 422
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ApplicationSubmissionTest {
+
+    private static final int CONCURRENT_REQUESTS = 8;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    private ExecutorService executor;
+    private User applicant;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        applicant = TestFixtures.newApplicant(userRepository, "submit-");
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void concurrentRequestsWithSameIdempotencyKeyCreateOneApplication() throws Exception {
+        String key = UUID.randomUUID().toString();
+        Map<String, Object> body = body("서버 개발");
+
+        List<MockHttpServletResponse> responses = burst(() -> create(body).header("Idempotency-Key", key));
+
+        assertThat(responses).allSatisfy(response -> assertThat(response.getStatus()).isEqualTo(201));
+        assertThat(responses).filteredOn(response -> "false".equals(response.getHeader("Idempotent-Replayed")))
+                .hasSize(1);
+        assertThat(responses).filteredOn(response -> "true".equals(response.getHeader("Idempotent-Replayed")))
+                .hasSize(CONCURRENT_REQUESTS - 1);
+        assertThat(responses).extracting(this::applicationId).containsOnly(applicationId(responses.get(0)));
+        assertThat(applicationRepository.findByUserOrderByCreatedAtDesc(applicant)).hasSize(1);
+    }
+
+    @Test
+    void concurrentRequestsForSamePositionCreateOneApplication() throws Exception {
+        Map<String, Object> body = body("서버 개발");
+
+        List<MockHttpServletResponse> responses = burst(() -> create(body));
+
+        assertThat(responses).filteredOn(response -> response.getStatus() == 201).hasSize(1);
+        assertThat(responses).filteredOn(response -> response.getStatus() == 409).hasSize(CONCURRENT_REQUESTS - 1);
+        assertThat(responses).extracting(this::applicationId).containsOnly(applicationId(responses.get(0)));
+        assertThat(applicationRepository.findByUserOrderByCreatedAtDesc(applicant)).hasSize(1);
+    }
+
+    @Test
+    void sameIdempotencyKeyWithDifferentBodyIsUnprocessable() throws Exception {
+        String key = UUID.randomUUID().toString();
+
+        MockHttpServletResponse first = mockMvc.perform(create(body("서버 개발")).header("Idempotency-Key", key))
+                .andReturn().getResponse();
+        MockHttpServletResponse reused = mockMvc.perform(create(body("클라이언트 개발")).header("Idempotency-Key", key))
+                .andReturn().getResponse();
+
+        assertThat(first.getStatus()).isEqualTo(201);
+        assertThat(reused.getStatus()).isEqualTo(422);
+        assertThat(applicationRepository.findByUserOrderByCreatedAtDesc(applicant)).hasSize(1);
+    }
+
+    // 모든 요청을 준비시킨 뒤 한꺼번에 출발
+    private List<MockHttpServletResponse> burst(RequestFactory request) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<MockHttpServletResponse>> futures = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(executor.submit(() -> {
+                MockHttpServletRequestBuilder builder = request.create();
+                start.await();
+                return mockMvc.perform(builder).andReturn().getResponse();
+            }));
+        }
+        start.countDown();
+
+        List<MockHttpServletResponse> responses = new ArrayList<>();
+        for (Future<MockHttpServletResponse> future : futures) {
+            responses.add(future.get());
+        }
+        return responses;
+    }
+
+    private MockHttpServletRequestBuilder create(Map<String, Object> body) throws Exception {
+        return post("/application/create")
+                .session(TestSessions.kakaoLogin(applicant.getKakaoId()))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body));
+    }
+
+    private static Map<String, Object> body(String position) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("company", "Burst Games");
+        body.put("position", position);
+        body.put("experienceLevel", "JUNIOR");
+        body.put("jobType", "BACKEND");
+        body.put("skills", List.of("Java", "Spring"));
+        return body;
+    }
+
+    private Long applicationId(MockHttpServletResponse response) {
+        try {
+            return objectMapper.readTree(response.getContentAsByteArray()).path("applicationId").asLong();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RequestFactory {
+        MockHttpServletRequestBuilder create() throws Exception;
+    }
+}
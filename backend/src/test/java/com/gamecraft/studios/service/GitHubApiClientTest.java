@@ -0,0 +1,127 @@
+package com.gamecraft.studios.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gamecraft.studios.config.OutboundHttpMetrics;
+import com.gamecraft.studios.dto.GitHubApiDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestTemplate;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.*;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+/**
+ * GitHubApiClient ETag 재검증 - 스텁 서버로 200 → 304 → 캐시 본문, 캐시 본문이 없어진 304 → 전체 재요청 확인
+ */
+class GitHubApiClientTest {
+
+    private static final String BASE_URL = "http://github.test";
+    private static final String SEARCH_URL = BASE_URL + "/search/repositories?q=language:java&sort=stars&order=desc&per_page=5";
+    private static final String ETAG = "\"v1\"";
+    private static final String BODY = "{\"total_count\":2,\"items\":[{\"name\":\"spring-boot\",\"stargazers_count\":70000}]}";
+
+    @TempDir
+    Path cacheDirectory;
+
+    private MockRestServiceServer server;
+    private GitHubResponseCache responseCache;
+    private GitHubApiClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestTemplate restTemplate = new RestTemplate();
+        server = MockRestServiceServer.bindTo(restTemplate).build();
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        responseCache = new GitHubResponseCache(objectMapper, cacheDirectory.toString(), 50);
+        responseCache.load();
+
+        GitHubClusterCoordinator clusterCoordinator = mock(GitHubClusterCoordinator.class);
+        when(clusterCoordinator.reserveQuota()).thenReturn(true);
+
+        client = new GitHubApiClient(restTemplate,
+                new GitHubRateLimiter(1000),
+                new GitHubCircuitBreaker(20, 5, 50, 60000, 16, 500),
+                clusterCoordinator,
+                responseCache,
+                objectMapper,
+                mock(OutboundHttpMetrics.class));
+        ReflectionTestUtils.setField(client, "baseUrl", BASE_URL);
+        ReflectionTestUtils.setField(client, "githubToken", "");
+    }
+
+    @Test
+    void notModifiedReusesCachedBody() {
+        server.expect(requestTo(SEARCH_URL))
+                .andExpect(method(HttpMethod.GET))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(etagHeaders()));
+        server.expect(requestTo(SEARCH_URL))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).headers(etagHeaders()));
+
+        GitHubApiDto.SearchResponse first = client.searchRepositories("language:java", 5);
+        GitHubApiDto.SearchResponse second = client.searchRepositories("language:java", 5);
+
+        server.verify();
+        assertThat(first.getTotalCount()).isEqualTo(2);
+        assertThat(second.getTotalCount()).isEqualTo(2);
+        assertThat(second.getItems()).extracting(GitHubApiDto.Repository::getName).containsExactly("spring-boot");
+        assertThat(client.getMetrics())
+                .containsEntry("fullResponses", 1L)
+                .containsEntry("notModifiedResponses", 1L);
+    }
+
+    @Test
+    void notModifiedWithEvictedBodyRefetchesWithoutEtag() throws IOException {
+        server.expect(requestTo(SEARCH_URL))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(etagHeaders()));
+        server.expect(requestTo(SEARCH_URL))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED).headers(etagHeaders()));
+        server.expect(requestTo(SEARCH_URL))
+                .andExpect(headerDoesNotExist(HttpHeaders.IF_NONE_MATCH))
+                .andRespond(withSuccess(BODY, MediaType.APPLICATION_JSON).headers(etagHeaders()));
+
+        client.searchRepositories("language:java", 5);
+
+        // ETag는 메모리에 남아 있지만 본문 파일은 지워진 상태
+        try (Stream<Path> files = Files.list(cacheDirectory)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+
+        GitHubApiDto.SearchResponse result = client.searchRepositories("language:java", 5);
+
+        server.verify();
+        assertThat(result).isNotNull();
+        assertThat(result.getTotalCount()).isEqualTo(2);
+        assertThat(client.getMetrics())
+                .containsEntry("fullResponses", 2L)
+                .containsEntry("notModifiedResponses", 0L);
+        assertThat(responseCache.getBody(SEARCH_URL)).isEqualTo(BODY);
+    }
+
+    private HttpHeaders etagHeaders() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag(ETAG);
+        return headers;
+    }
+}
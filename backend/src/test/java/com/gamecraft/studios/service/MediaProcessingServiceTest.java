@@ -0,0 +1,210 @@
+package com.gamecraft.studios.service;
+
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.entity.MediaJob;
+import com.gamecraft.studios.entity.User;
+import com.gamecraft.studios.repository.ApplicationRepository;
+import com.gamecraft.studios.repository.MediaJobRepository;
+import com.gamecraft.studios.repository.StoredFileRepository;
+import com.gamecraft.studios.repository.UserRepository;
+import com.gamecraft.studios.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 포트폴리오 미디어 처리 - ffmpeg 대신 스텁 스크립트(media.processing.ffmpeg-command)로 상태 전이 확인
+ * - 테스트 프로필은 처리가 꺼져 있으므로(enabled=false) 스텁 명령을 쓰는 처리기를 직접 만들고 dispatch()를 호출
+ * - 스텁은 -i 입력을 마지막 인자(출력)로 복사, hold 파일이 있는 동안 대기, fail 파일이 있으면 실패
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class MediaProcessingServiceTest {
+
+    private static final int MAX_ATTEMPTS = 2;
+    private static final long WAIT_MILLIS = 10_000;
+
+    private static final String STUB_SCRIPT = """
+            #!/bin/sh
+            dir=$(dirname "$0")
+            while [ -e "$dir/hold" ]; do sleep 0.05; done
+            input=""
+            previous=""
+            for arg; do
+              [ "$previous" = "-i" ] && input="$arg"
+              previous="$arg"
+            done
+            echo "$input" >> "$dir/calls"
+            if [ -e "$dir/fail" ]; then
+              echo "stub failure" >&2
+              exit 1
+            fi
+            cp "$input" "$previous"
+            """;
+
+    @TempDir
+    Path stubDirectory;
+
+    @Autowired
+    private MediaJobRepository mediaJobRepository;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+
+    @Autowired
+    private StoredFileRepository storedFileRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private FileStorageService fileStorageService;
+
+    @Autowired
+    private ApplicationFileService applicationFileService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private MediaProcessingService processor;
+    private Long applicationId;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path stub = stubDirectory.resolve("ffmpeg-stub.sh");
+        Files.writeString(stub, STUB_SCRIPT);
+        assertThat(stub.toFile().setExecutable(true)).isTrue();
+
+        // 재시도 대기 없이 최대 2회, 워커 1개 - start()를 부르지 않으므로 주기 실행 없이 dispatch()로만 가져감
+        processor = new MediaProcessingService(mediaJobRepository, applicationRepository, storedFileRepository,
+                fileStorageService, transactionManager,
+                true, stub.toString(), 1, 2000, 10, MAX_ATTEMPTS, 0);
+
+        User applicant = TestFixtures.newApplicant(userRepository, "media-");
+        applicationId = applicationRepository.save(
+                TestFixtures.newApplication(applicant, "Media Games", "서버 개발")).getId();
+    }
+
+    @AfterEach
+    void tearDown() {
+        processor.shutdown();
+    }
+
+    @Test
+    void processesPendingJobToReady() throws Exception {
+        uploadPortfolio();
+        Long jobId = application().getMediaJobId();
+        assertThat(application().getMediaStatus()).isEqualTo(Application.MediaStatus.PENDING);
+        assertThat(job(jobId).getStatus()).isEqualTo(MediaJob.Status.PENDING);
+
+        // 스텁을 붙잡아 둔 채 가져가게 해서 처리 중 상태를 확인
+        Files.createFile(stubDirectory.resolve("hold"));
+        processor.dispatch();
+        assertThat(application().getMediaStatus()).isEqualTo(Application.MediaStatus.PROCESSING);
+        assertThat(job(jobId).getStatus()).isEqualTo(MediaJob.Status.RUNNING);
+
+        Files.delete(stubDirectory.resolve("hold"));
+        await(() -> job(jobId).getStatus() == MediaJob.Status.DONE);
+
+        assertThat(application().getMediaStatus()).isEqualTo(Application.MediaStatus.READY);
+        assertThat(job(jobId).getAttempts()).isEqualTo(1);
+        assertThat(fileStorageService.exists(fileStorageService.derivedPath(
+                storedSha256(), MediaProcessingService.Variant.THUMBNAIL.getFileName()))).isTrue();
+    }
+
+    @Test
+    void retriesThenFails() throws Exception {
+        uploadPortfolio();
+        Long jobId = application().getMediaJobId();
+        Files.createFile(stubDirectory.resolve("fail"));
+
+        // 1회차 실패 → 대기 상태로 돌아가 재시도 예약
+        processor.dispatch();
+        await(() -> job(jobId).getStatus() == MediaJob.Status.PENDING && job(jobId).getAttempts() == 1);
+        assertThat(application().getMediaStatus()).isEqualTo(Application.MediaStatus.PENDING);
+        assertThat(job(jobId).getLastError()).contains("stub failure");
+
+        // 2회차(마지막) 실패 → 실패 확정
+        processor.dispatch();
+        await(() -> job(jobId).getStatus() == MediaJob.Status.FAILED);
+        assertThat(job(jobId).getAttempts()).isEqualTo(MAX_ATTEMPTS);
+        assertThat(application().getMediaStatus()).isEqualTo(Application.MediaStatus.FAILED);
+        assertThat(calls()).hasSize(MAX_ATTEMPTS);
+
+        // 재시도 횟수를 다 쓴 작업은 다시 가져가지 않음
+        processor.dispatch();
+        assertThat(calls()).hasSize(MAX_ATTEMPTS);
+    }
+
+    @Test
+    void cancelsPendingJobOfReplacedPortfolio() throws Exception {
+        uploadPortfolio();
+        Long replacedJobId = application().getMediaJobId();
+
+        uploadPortfolio();
+        Long currentJobId = application().getMediaJobId();
+        assertThat(currentJobId).isNotEqualTo(replacedJobId);
+        assertThat(job(replacedJobId).getStatus()).isEqualTo(MediaJob.Status.CANCELLED);
+
+        processor.dispatch();
+        await(() -> job(currentJobId).getStatus() == MediaJob.Status.DONE);
+
+        assertThat(application().getMediaStatus()).isEqualTo(Application.MediaStatus.READY);
+        assertThat(job(replacedJobId).getStatus()).isEqualTo(MediaJob.Status.CANCELLED);
+        assertThat(job(replacedJobId).getAttempts()).isZero();
+        assertThat(calls()).hasSize(1);
+    }
+
+    // 내용이 매번 다른 PNG (결과물이 SHA-256 기준으로 공유되므로 다른 테스트의 결과물을 재사용하지 않도록)
+    private void uploadPortfolio() throws IOException {
+        byte[] signature = {(byte) 0x89, 0x50, 0x4E, 0x47, 0x0D, 0x0A, 0x1A, 0x0A};
+        byte[] body = UUID.randomUUID().toString().getBytes(StandardCharsets.US_ASCII);
+        byte[] content = new byte[signature.length + body.length];
+        System.arraycopy(signature, 0, content, 0, signature.length);
+        System.arraycopy(body, 0, content, signature.length, body.length);
+
+        applicationFileService.upload(applicationId, FileStorageService.Kind.PORTFOLIO,
+                new MockMultipartFile("file", "portfolio.png", "image/png", content));
+    }
+
+    private Application application() {
+        return applicationRepository.findById(applicationId).orElseThrow();
+    }
+
+    private MediaJob job(Long jobId) {
+        return mediaJobRepository.findById(jobId).orElseThrow();
+    }
+
+    private String storedSha256() {
+        return storedFileRepository.findById(application().getPortfolioFileId()).orElseThrow().getSha256();
+    }
+
+    private List<String> calls() throws IOException {
+        Path calls = stubDirectory.resolve("calls");
+        return Files.exists(calls) ? Files.readAllLines(calls) : List.of();
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!condition.getAsBoolean()) {
+            assertThat(System.currentTimeMillis()).as("대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(50);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.gamecraft.studios.support;
+
+import com.gamecraft.studios.entity.Application;
+import com.gamecraft.studios.entity.User;
+import com.gamecraft.studios.repository.UserRepository;
+
+import java.util.UUID;
+
+/**
+ * 통합 테스트용 사용자/지원서 데이터
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {}
+
+    /**
+     * 관리자 계정 (같은 DB를 쓰는 테스트 간 공유 - 없을 때만 생성)
+     * @return 이번 호출에서 새로 만들었으면 true
+     */
+    public static boolean createAdminIfAbsent(UserRepository userRepository, String kakaoId) {
+        if (userRepository.findByKakaoId(kakaoId).isPresent()) {
+            return false;
+        }
+        User admin = new User(kakaoId, "관리자", kakaoId + "@test.com");
+        admin.setRole(User.Role.ADMIN);
+        userRepository.save(admin);
+        return true;
+    }
+
+    /**
+     * 새 지원자 (카카오 ID = prefix + UUID, 테스트마다 다른 사용자)
+     */
+    public static User newApplicant(UserRepository userRepository, String kakaoIdPrefix) {
+        String kakaoId = kakaoIdPrefix + UUID.randomUUID();
+        return userRepository.save(new User(kakaoId, "지원자", kakaoId + "@test.com"));
+    }
+
+    /**
+     * 제출 상태 지원서 (저장 전, 경력/직무는 JUNIOR/BACKEND)
+     */
+    public static Application newApplication(User applicant, String company, String position) {
+        Application application = new Application(applicant, company, position);
+        application.setExperienceLevel(Application.ExperienceLevel.JUNIOR);
+        application.setJobType(Application.JobType.BACKEND);
+        return application;
+    }
+}
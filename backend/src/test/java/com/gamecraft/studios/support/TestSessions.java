@@ -0,0 +1,31 @@
+package com.gamecraft.studios.support;
+
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.user.DefaultOAuth2User;
+import org.springframework.security.web.context.HttpSessionSecurityContextRepository;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * MockMvc용 카카오 로그인 세션 (OAuth2 로그인 성공 후와 같은 SecurityContext)
+ */
+public final class TestSessions {
+
+    private TestSessions() {}
+
+    public static MockHttpSession kakaoLogin(String kakaoId) {
+        DefaultOAuth2User principal = new DefaultOAuth2User(
+                List.of(new SimpleGrantedAuthority("ROLE_USER")), Map.of("id", kakaoId), "id");
+        OAuth2AuthenticationToken authentication =
+                new OAuth2AuthenticationToken(principal, principal.getAuthorities(), "kakao");
+
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute(HttpSessionSecurityContextRepository.SPRING_SECURITY_CONTEXT_KEY,
+                new SecurityContextImpl(authentication));
+        return session;
+    }
+}
@@ -0,0 +1,44 @@
+package com.gamecraft.studios.util;
+
+import com.gamecraft.studios.config.SqlStatementRecorder;
+
+import java.util.concurrent.Callable;
+import java.util.stream.Collectors;
+
+/**
+ * SQL 실행 횟수 예산 검사 (테스트용)
+ * - 컨트롤러 호출(MockMvc 등 같은 스레드에서 실행되는 코드)을 감싸서 실행된 SQL 수가 예산 이하인지 확인
+ * - 예산을 넘으면 실행된 SQL 모양과 횟수를 메시지에 담아 AssertionError
+ *
+ * 예) SqlStatementBudget.assertAtMost(3, () -> mockMvc.perform(get("/admin/applications")));
+ */
+public final class SqlStatementBudget {
+
+    private SqlStatementBudget() {}
+
+    public static <T> T assertAtMost(int maxStatements, Callable<T> call) throws Exception {
+        try (SqlStatementRecorder.Recording recording = SqlStatementRecorder.begin()) {
+            T result = call.call();
+            if (recording.getStatementCount() > maxStatements) {
+                throw new AssertionError(describe(maxStatements, recording));
+            }
+            return result;
+        }
+    }
+
+    public static void assertAtMost(int maxStatements, Runnable call) {
+        try (SqlStatementRecorder.Recording recording = SqlStatementRecorder.begin()) {
+            call.run();
+            if (recording.getStatementCount() > maxStatements) {
+                throw new AssertionError(describe(maxStatements, recording));
+            }
+        }
+    }
+
+    private static String describe(int maxStatements, SqlStatementRecorder.Recording recording) {
+        String statements = recording.getFingerprints().entrySet().stream()
+                .map(entry -> "  " + entry.getValue() + "x " + entry.getKey())
+                .collect(Collectors.joining("\n"));
+        return "SQL " + recording.getStatementCount() + "회 실행 (예산 " + maxStatements + "회)\n" + statements;
+    }
+}
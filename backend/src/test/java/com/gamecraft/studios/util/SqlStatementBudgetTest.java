@@ -0,0 +1,77 @@
+package com.gamecraft.studios.util;
+
+import com.gamecraft.studios.entity.User;
+import com.gamecraft.studios.repository.UserRepository;
+import com.gamecraft.studios.support.TestFixtures;
+import com.gamecraft.studios.support.TestSessions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SqlStatementBudget - MockMvc 컨트롤러 호출을 감싸서 실행된 SQL 수를 세는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementBudgetTest {
+
+    private static final String KAKAO_ID = "sql-budget-admin";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private MockHttpSession adminSession;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TestFixtures.createAdminIfAbsent(userRepository, KAKAO_ID);
+        adminSession = TestSessions.kakaoLogin(KAKAO_ID);
+
+        // 로그인 사용자 캐시를 채워 둠 (측정 구간에는 목록 조회 SQL만 남도록)
+        mockMvc.perform(get("/admin/applications").session(adminSession)).andExpect(status().isOk());
+    }
+
+    @Test
+    void passesWithinBudgetAndReturnsResult() throws Exception {
+        var result = SqlStatementBudget.assertAtMost(2, () ->
+                mockMvc.perform(get("/admin/applications").session(adminSession)).andReturn());
+
+        assertThat(result.getResponse().getStatus()).isEqualTo(200);
+    }
+
+    @Test
+    void failsWithExecutedStatementsWhenOverBudget() {
+        assertThatThrownBy(() -> SqlStatementBudget.assertAtMost(1, () ->
+                mockMvc.perform(get("/admin/applications").session(adminSession)).andReturn()))
+                .isInstanceOf(AssertionError.class)
+                .hasMessageContaining("SQL 2회 실행 (예산 1회)")
+                .hasMessageContaining("1x select");
+    }
+
+    @Test
+    void countsNothingRunOnOtherThreads() throws Exception {
+        // 다른 스레드에서 실제로 SQL을 실행해도 기록 중인 스레드의 예산에는 들어가지 않음
+        Optional<User> found = SqlStatementBudget.assertAtMost(0, () -> {
+            return CompletableFuture.supplyAsync(() -> userRepository.findByKakaoId(KAKAO_ID)).get();
+        });
+
+        assertThat(found).isPresent();
+    }
+}
@@ -42,7 +42,8 @@ export function TechStackSelector({ selectedStacks, onSelectionChange }: TechSta
 
             if (data.success) {
                 setTrendingStacks(data.flatData || [])
-                setLastUpdated(new Date(data.lastUpdated).toLocaleString())
+                // 이 노드에 스냅샷이 아직 없으면(DB 이력으로 응답) lastUpdated 없음
+                setLastUpdated(data.lastUpdated ? new Date(data.lastUpdated).toLocaleString() : '-')
             } else {
                 setError(data.message)
                 // 실패 시 fallback 데이터 사용
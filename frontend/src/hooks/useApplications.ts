@@ -1,8 +1,8 @@
 // frontend/src/hooks/useApplications.ts
 'use client'
 
-import { useState, useCallback } from 'react'
-import { useQuery, useMutation, useQueryClient } from '@tanstack/react-query'
+import { useState, useCallback, useMemo } from 'react'
+import { useQuery, useInfiniteQuery, useMutation, useQueryClient } from '@tanstack/react-query'
 import { apiClient, CreateApplicationRequest } from '@/lib/api'
 import {
     ApplicationListResponse,
@@ -12,6 +12,8 @@ import {
 } from '@/types/api'
 import { toast } from 'sonner'
 
+const ADMIN_APPLICATIONS_PAGE_SIZE = 20
+
 export function useApplications() {
     const queryClient = useQueryClient()
 
@@ -93,23 +95,44 @@ export function useAdminApplications() {
     const [statusFilter, setStatusFilter] = useState<string>('ALL')
     const [companyFilter, setCompanyFilter] = useState<string>('')
 
-    // 모든 지원서 조회
+    // 지원서 목록 조회 - 커서 기반 페이지 단위로 가져오고 loadMoreApplications로 다음 페이지 추가
     const {
         data: allApplicationsData,
         isLoading: isLoadingApplications,
         error: applicationsError,
-    } = useQuery({
+        fetchNextPage,
+        hasNextPage,
+        isFetchingNextPage,
+    } = useInfiniteQuery({
         queryKey: ['admin', 'applications', statusFilter, companyFilter],
-        queryFn: async (): Promise<AdminApplicationListResponse | null> => {
+        queryFn: async ({ pageParam }): Promise<AdminApplicationListResponse> => {
             const response = await apiClient.admin.getAllApplications(
                 statusFilter === 'ALL' ? undefined : statusFilter,
-                companyFilter || undefined
+                companyFilter || undefined,
+                pageParam,
+                ADMIN_APPLICATIONS_PAGE_SIZE
             )
-            return response.success ? response : null
+            if (!response.success) {
+                throw new Error(response.message || '지원서 목록을 불러오지 못했습니다')
+            }
+            return response
         },
+        initialPageParam: undefined as string | undefined,
+        getNextPageParam: (lastPage) => (lastPage.hasNext && lastPage.nextCursor) || undefined,
         retry: 1,
     })
 
+    const applications = useMemo(
+        () => allApplicationsData?.pages.flatMap((page) => page.applications) ?? [],
+        [allApplicationsData]
+    )
+
+    const loadMoreApplications = useCallback(() => {
+        if (hasNextPage && !isFetchingNextPage) {
+            fetchNextPage()
+        }
+    }, [hasNextPage, isFetchingNextPage, fetchNextPage])
+
     // 관리자 대시보드 조회
     const {
         data: dashboardData,
@@ -129,12 +152,14 @@ export function useAdminApplications() {
                                id,
                                status,
                                adminNotes,
+                               expectedStatus,
                            }: {
             id: number
             status: string
             adminNotes?: string
+            expectedStatus?: string
         }) => {
-            return apiClient.admin.updateApplicationStatus(id, status, adminNotes)
+            return apiClient.admin.updateApplicationStatus(id, status, adminNotes, expectedStatus)
         },
         onSuccess: (response) => {
             if (response.success) {
@@ -152,16 +177,17 @@ export function useAdminApplications() {
     })
 
     const updateApplicationStatus = useCallback(
-        (id: number, status: string, adminNotes?: string) => {
-            return updateStatusMutation.mutateAsync({ id, status, adminNotes })
+        (id: number, status: string, adminNotes?: string, expectedStatus?: string) => {
+            return updateStatusMutation.mutateAsync({ id, status, adminNotes, expectedStatus })
         },
         [updateStatusMutation]
     )
 
     return {
         // 데이터
-        applications: allApplicationsData?.applications || [],
-        totalApplications: allApplicationsData?.totalCount || 0,
+        applications,
+        totalApplications: allApplicationsData?.pages[0]?.totalCount || 0,
+        hasMoreApplications: hasNextPage,
         dashboard: dashboardData?.statistics,
 
         // 필터
@@ -173,12 +199,14 @@ export function useAdminApplications() {
         // 로딩 상태
         isLoadingApplications,
         isLoadingDashboard,
+        isLoadingMoreApplications: isFetchingNextPage,
         isUpdatingStatus: updateStatusMutation.isPending,
 
         // 에러
         applicationsError,
 
         // 메서드
+        loadMoreApplications,
         updateApplicationStatus,
     }
 }
\ No newline at end of file
@@ -110,10 +110,18 @@ class ApiClient {
             return this.request<AdminDashboardResponse>('/admin/dashboard')
         },
 
-        getAllApplications: async (status?: string, company?: string): Promise<AdminApplicationListResponse> => {
+        // cursor: 이전 페이지 응답의 nextCursor (첫 페이지는 생략 - totalCount는 첫 페이지에만 포함)
+        getAllApplications: async (
+            status?: string,
+            company?: string,
+            cursor?: string,
+            size?: number
+        ): Promise<AdminApplicationListResponse> => {
             const params = new URLSearchParams()
             if (status) params.append('status', status)
             if (company) params.append('company', company)
+            if (cursor) params.append('cursor', cursor)
+            if (size) params.append('size', String(size))
 
             const query = params.toString()
             return this.request<AdminApplicationListResponse>(`/admin/applications${query ? `?${query}` : ''}`)
@@ -123,10 +131,16 @@ class ApiClient {
             return this.request<ApiResponse>(`/admin/applications/${id}`)
         },
 
-        updateApplicationStatus: async (id: number, status: string, adminNotes?: string): Promise<ApiResponse> => {
+        // expectedStatus: 화면에 보이던 상태 - 그 사이 다른 관리자가 바꿨으면 409
+        updateApplicationStatus: async (
+            id: number,
+            status: string,
+            adminNotes?: string,
+            expectedStatus?: string
+        ): Promise<ApiResponse> => {
             return this.request<ApiResponse>(`/admin/applications/${id}/status`, {
                 method: 'PUT',
-                body: JSON.stringify({ status, adminNotes }),
+                body: JSON.stringify({ status, adminNotes, expectedStatus }),
             })
         },
     }
@@ -66,7 +66,10 @@ export interface AdminDashboardResponse extends ApiResponse {
 
 // 관리자 지원서 목록 응답
 export interface AdminApplicationListResponse extends ApiResponse {
-    totalCount: number
+    totalCount?: number  // 첫 페이지(cursor 없음)에만 포함
+    size: number
+    hasNext: boolean
+    nextCursor: string | null
     applications: AdminApplicationItem[]
 }
 